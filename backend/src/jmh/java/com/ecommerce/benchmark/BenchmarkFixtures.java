@@ -0,0 +1,66 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.OrderItemJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.OrderJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaEntity;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Jeux de données et stubs en mémoire partagés par les benchmarks.
+ * Aucune base de données n'est nécessaire : les repositories Spring Data
+ * sont remplacés par des proxys qui renvoient des entités préconstruites.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<ProductJpaEntity> products(int count) {
+        List<ProductJpaEntity> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(ProductJpaEntity.builder()
+                    .id("p-" + i).name("Produit " + i).description("Description du produit " + i)
+                    .price(BigDecimal.valueOf(1000 + i, 2)).stock(100).supplierId(i % 2 == 0 ? "f1" : "f2")
+                    .storeId("store-f1").category("Categorie " + (i % 10)).available(true)
+                    .build());
+        }
+        return products;
+    }
+
+    static OrderJpaEntity order(String id, int lines) {
+        List<OrderItemJpaEntity> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(OrderItemJpaEntity.builder()
+                    .productId("p-" + i).productName("Produit " + i).supplierId("f1")
+                    .quantity(1 + i % 5).unitPrice(BigDecimal.valueOf(1000 + i, 2))
+                    .build());
+        }
+        return OrderJpaEntity.builder()
+                .id(id).customerId("client1").items(items).status(Order.OrderStatus.CONFIRMED)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).shippingAddress("Douala")
+                .build();
+    }
+
+    /**
+     * Crée un stub d'interface : chaque méthode nommée dans {@code answers}
+     * renvoie le résultat de la fonction associée (appliquée aux arguments).
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+}
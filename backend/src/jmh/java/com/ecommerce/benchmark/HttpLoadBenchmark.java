@@ -0,0 +1,319 @@
+package com.ecommerce.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Charge HTTP en boucle fermée sur l'application démarrée à part : {@code clients} clients
+ * simultanés, chacun envoie sa requête suivante dès la réponse reçue. Sert à comparer le mode
+ * threads plateforme et le mode threads virtuels (spring.threads.virtual.enabled) à matériel égal.
+ *
+ * Arguments clé=valeur : url (http://localhost:8080), clients (1000,5000,10000),
+ * scenarios (catalog,order), warmup et duration en secondes (5 et 20), label (libellé du mode),
+ * catalogUrl (url par défaut) pour viser le serveur réactif (product.reactive.port) avec byId et
+ * category, pid (processus du serveur, sur la même machine) pour le temps CPU serveur par requête.
+ *
+ * catalog : une requête sur deux GET /api/products/{id} (20 produits), l'autre GET /api/products/page.
+ * byId : GET /api/products/{id} seul. category : GET /api/products/category/charge (les produits de
+ * l'essai, client1 connecté).
+ * order : POST /api/orders par client1, une unité d'un des 20 produits créés pour l'essai (stock 10^9).
+ *
+ * Client java.net.http asynchrone : 10 000 clients ne demandent pas 10 000 threads à l'injecteur.
+ * Au-delà de server.tomcat.max-connections (8192), les connexions en trop attendent côté serveur
+ * et finissent en erreur de connexion ou en délai dépassé : elles sont comptées à part.
+ * Après chaque palier, jvm.threads.peak (actuator, lu en admin) donne le pic de threads plateforme
+ * du serveur. Avec pid, cpu ms/req = temps CPU du serveur (utime + stime de /proc) pendant la
+ * mesure, divisé par les réponses reçues : 1000 / cpu ms/req donne le débit par cœur.
+ */
+public class HttpLoadBenchmark {
+
+    private static final int PRODUCTS = 20;
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.E]+)");
+
+    private final String url;
+    private final String catalogUrl;
+    private final String pid;
+    private final HttpClient http;
+    private final List<String> productIds = new ArrayList<>();
+    private String adminToken;
+    private String customerToken;
+
+    private HttpLoadBenchmark(String url, String catalogUrl, String pid, ExecutorService callbacks) {
+        this.url = url;
+        this.catalogUrl = catalogUrl;
+        this.pid = pid;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(callbacks)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "url", "http://localhost:8080", "clients", "1000,5000,10000", "scenarios", "catalog,order",
+                "warmup", "5", "duration", "20", "label", "?", "pid", ""));
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            options.put(kv[0], kv.length > 1 ? kv[1] : "");
+        }
+        ExecutorService callbacks = Executors.newFixedThreadPool(4);
+        HttpLoadBenchmark benchmark = new HttpLoadBenchmark(options.get("url"),
+                options.getOrDefault("catalogUrl", options.get("url")), options.get("pid"), callbacks);
+        benchmark.setUp();
+
+        System.out.printf("%-10s %-8s %7s %9s %9s %9s %9s %8s %11s  %s%n",
+                "mode", "scénario", "clients", "req/s", "p50 ms", "p99 ms", "max ms", "threads", "cpu ms/req", "erreurs");
+        for (String scenario : options.get("scenarios").split(",")) {
+            for (String clients : options.get("clients").split(",")) {
+                Result result = benchmark.run(scenario, Integer.parseInt(clients.trim()),
+                        Integer.parseInt(options.get("warmup")), Integer.parseInt(options.get("duration")));
+                System.out.printf("%-10s %-8s %7s %9.0f %9.1f %9.1f %9.1f %8s %11s  %s%n",
+                        options.get("label"), scenario, clients, result.throughput(), result.percentile(0.50),
+                        result.percentile(0.99), result.max(), benchmark.peakThreads(), result.cpuPerRequest(),
+                        result.errors());
+            }
+        }
+        callbacks.shutdownNow();
+        System.exit(0);
+    }
+
+    /**
+     * Crée les produits de l'essai (admin) et connecte client1.
+     */
+    private void setUp() throws Exception {
+        adminToken = login("admin", "Admin@123");
+        for (int i = 0; i < PRODUCTS; i++) {
+            String body = "{\"name\":\"Charge " + i + "\",\"description\":\"Produit de l'essai de charge\","
+                    + "\"price\":15000,\"stock\":1000000000,\"supplierId\":\"f1\",\"storeId\":\"m1\","
+                    + "\"category\":\"charge\",\"available\":true}";
+            HttpResponse<String> created = http.send(HttpRequest.newBuilder(URI.create(url + "/api/products"))
+                    .header("Authorization", "Bearer " + adminToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+            productIds.add(extract(ID, created.body(), "création du produit"));
+        }
+        customerToken = login("client1", "Client@123");
+    }
+
+    private String login(String username, String password) throws Exception {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(url + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        return extract(TOKEN, response.body(), "connexion de " + username);
+    }
+
+    private Result run(String scenario, int clients, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        Result result = new Result();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            next(scenario, result, measureFrom, end, finished);
+        }
+        TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+        long cpuFrom = serverCpuMillis();
+        TimeUnit.NANOSECONDS.sleep(end - System.nanoTime());
+        long cpuTo = serverCpuMillis();
+        if (cpuFrom >= 0 && cpuTo >= 0) {
+            result.cpuMillis = cpuTo - cpuFrom;
+        }
+        finished.await();
+        result.seconds = durationSeconds;
+        return result;
+    }
+
+    /**
+     * Envoie la requête suivante d'un client ; la réponse relance le même client jusqu'à la fin.
+     */
+    private void next(String scenario, Result result, long measureFrom, long end, CountDownLatch finished) {
+        long sent = System.nanoTime();
+        if (sent >= end) {
+            finished.countDown();
+            return;
+        }
+        http.sendAsync(request(scenario), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long received = System.nanoTime();
+                    if (sent >= measureFrom && received <= end) {
+                        if (error != null) {
+                            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                    ? error.getCause() : error;
+                            result.error(cause.getClass().getSimpleName());
+                        } else if (response.statusCode() >= 400) {
+                            result.error("HTTP " + response.statusCode());
+                        } else {
+                            result.record(received - sent);
+                        }
+                    }
+                    next(scenario, result, measureFrom, end, finished);
+                });
+    }
+
+    private HttpRequest request(String scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String productId = productIds.get(random.nextInt(PRODUCTS));
+        HttpRequest.Builder builder;
+        if ("order".equals(scenario)) {
+            builder = HttpRequest.newBuilder(URI.create(url + "/api/orders"))
+                    .header("Authorization", "Bearer " + customerToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"items\":[{\"productId\":\"" + productId
+                            + "\",\"supplierId\":\"f1\",\"quantity\":1}],\"shippingAddress\":\"Essai de charge\"}"));
+        } else if ("byId".equals(scenario)) {
+            builder = HttpRequest.newBuilder(URI.create(catalogUrl + "/api/products/" + productId));
+        } else if ("category".equals(scenario)) {
+            builder = HttpRequest.newBuilder(URI.create(catalogUrl + "/api/products/category/charge"))
+                    .header("Authorization", "Bearer " + customerToken);
+        } else if (random.nextBoolean()) {
+            builder = HttpRequest.newBuilder(URI.create(url + "/api/products/" + productId));
+        } else {
+            builder = HttpRequest.newBuilder(URI.create(url + "/api/products/page?limit=20"));
+        }
+        return builder.timeout(Duration.ofSeconds(60)).build();
+    }
+
+    /**
+     * utime + stime du serveur en millisecondes (horloge de /proc à 100 ticks/s), -1 sans pid.
+     */
+    private long serverCpuMillis() {
+        if (pid.isEmpty()) {
+            return -1;
+        }
+        try {
+            String stat = Files.readString(Path.of("/proc", pid, "stat"));
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return (Long.parseLong(fields[11]) + Long.parseLong(fields[12])) * 10;
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private String peakThreads() {
+        try {
+            HttpResponse<String> response = http.send(
+                    HttpRequest.newBuilder(URI.create(url + "/actuator/metrics/jvm.threads.peak"))
+                            .header("Authorization", "Bearer " + adminToken).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return String.valueOf((long) Double.parseDouble(extract(VALUE, response.body(), "jvm.threads.peak")));
+        } catch (Exception e) {
+            return "?";
+        }
+    }
+
+    private static String extract(Pattern pattern, String body, String step) {
+        Matcher matcher = pattern.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Réponse inattendue (" + step + "): " + body);
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * Latences en microsecondes, histogramme log-linéaire (16 sous-tranches par puissance de 2,
+     * soit une précision d'environ 6 %).
+     */
+    private static final class Result {
+
+        private static final int SUB_BUCKETS = 16;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private volatile long maxMicros;
+        private int seconds;
+        private long cpuMillis = -1;
+
+        void record(long nanos) {
+            long micros = Math.max(1, nanos / 1000);
+            buckets.incrementAndGet(bucket(micros));
+            count.increment();
+            if (micros > maxMicros) {
+                maxMicros = micros;
+            }
+        }
+
+        void error(String kind) {
+            errors.computeIfAbsent(kind, k -> new LongAdder()).increment();
+        }
+
+        double throughput() {
+            return count.sum() / (double) seconds;
+        }
+
+        String cpuPerRequest() {
+            long total = count.sum();
+            return cpuMillis < 0 || total == 0 ? "?" : String.format("%.3f", cpuMillis / (double) total);
+        }
+
+        double max() {
+            return maxMicros / 1000.0;
+        }
+
+        Map<String, Long> errors() {
+            Map<String, Long> sums = new HashMap<>();
+            errors.forEach((kind, adder) -> sums.put(kind, adder.sum()));
+            return sums;
+        }
+
+        double percentile(double p) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(p * total);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return upperBound(i) / 1000.0;
+                }
+            }
+            return max();
+        }
+
+        private static int bucket(long micros) {
+            int power = 63 - Long.numberOfLeadingZeros(micros);
+            if (power < 4) {
+                return (int) micros;
+            }
+            int sub = (int) ((micros >>> (power - 4)) & (SUB_BUCKETS - 1));
+            return power * SUB_BUCKETS + sub;
+        }
+
+        private static long upperBound(int bucket) {
+            int power = bucket / SUB_BUCKETS;
+            if (power < 4) {
+                return bucket;
+            }
+            int sub = bucket % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + sub + 1) << (power - 4));
+        }
+    }
+}
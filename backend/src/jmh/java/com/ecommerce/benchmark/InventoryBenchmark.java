@@ -0,0 +1,51 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import com.ecommerce.infrastructure.adapter.inventory.InMemoryInventoryAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la décision de vente du moteur de stock en mémoire (CAS par produit),
+ * sous contention : 8 threads sur {@code products} produits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class InventoryBenchmark {
+
+    @Param({"1", "1000"})
+    private int products;
+
+    private InMemoryInventoryAdapter inventory;
+    private String[] productIds;
+
+    @Setup
+    public void setUp() {
+        ProductRepositoryPort repository = BenchmarkFixtures.stub(ProductRepositoryPort.class, Map.of(
+                "findById", args -> Optional.of(Product.builder()
+                        .id((String) args[0]).supplierId("f1").stock(Integer.MAX_VALUE).available(true).build())));
+        SupplierRepositoryRouter router = BenchmarkFixtures.stub(SupplierRepositoryRouter.class, Map.of(
+                "getRepositoryForSupplier", args -> repository));
+        inventory = new InMemoryInventoryAdapter(router);
+        productIds = new String[products];
+        for (int i = 0; i < products; i++) {
+            productIds[i] = "p-" + i;
+        }
+    }
+
+    @Benchmark
+    public boolean tryDecrease() {
+        return inventory.tryDecrease("f1", productIds[ThreadLocalRandom.current().nextInt(products)], 1);
+    }
+}
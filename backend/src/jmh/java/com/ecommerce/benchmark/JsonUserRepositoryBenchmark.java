@@ -0,0 +1,66 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.User;
+import com.ecommerce.domain.port.output.UserRepositoryPort;
+import com.ecommerce.infrastructure.adapter.persistence.json.JsonUserRepositoryAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark du chemin de login (findByUsername) sur l'adaptateur JSON
+ * selon le nombre d'utilisateurs du fichier.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUserRepositoryBenchmark {
+
+    @Param({"1000", "100000"})
+    private int users;
+
+    private Path directory;
+    private UserRepositoryPort adapter;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("users-bench");
+        Path file = directory.resolve("users.json");
+        List<Map<String, Object>> content = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            content.add(Map.of(
+                    "id", "u-" + i, "username", "user" + i, "email", "user" + i + "@example.com",
+                    "password", "$2a$10$abcdefghijklmnopqrstuv", "roles", Set.of("USER"), "active", true));
+        }
+        new ObjectMapper().writeValue(file.toFile(), content);
+        adapter = new JsonUserRepositoryAdapter(file.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (adapter instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        try (var files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Optional<User> findByUsername() {
+        return adapter.findByUsername("user" + ThreadLocalRandom.current().nextInt(users));
+    }
+}
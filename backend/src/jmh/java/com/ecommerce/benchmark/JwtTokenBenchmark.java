@@ -0,0 +1,53 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.User;
+import com.ecommerce.domain.port.output.TokenGeneratorPort;
+import com.ecommerce.infrastructure.adapter.JwtTokenAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la génération et de la validation des tokens JWT.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    private JwtTokenAdapter adapter;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        adapter = new JwtTokenAdapter("ecommerce-hexagonal-super-secret-key-2024-minimum-256-bits", 86_400_000L);
+        user = User.builder().id("u-1").username("client1").roles(Set.of("USER")).active(true).build();
+        token = adapter.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return adapter.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return adapter.validateToken(token);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return adapter.extractUsername(token);
+    }
+
+    @Benchmark
+    public Optional<TokenGeneratorPort.TokenClaims> verifyAndDecode() {
+        return adapter.verifyAndDecode(token);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la règle métier Order.calculateTotal (réduction BigDecimal).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<OrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(OrderItem.builder()
+                    .productId("p-" + i).supplierId("f1")
+                    .quantity(1 + i % 5).unitPrice(BigDecimal.valueOf(1000 + i, 2))
+                    .build());
+        }
+        order = Order.builder().id("o-1").customerId("client1").items(items).build();
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotal() {
+        return order.calculateTotal();
+    }
+}
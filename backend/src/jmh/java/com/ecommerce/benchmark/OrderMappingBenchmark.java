@@ -0,0 +1,52 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.port.output.OrderRepositoryPort;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.MySQLOrderRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.OrderJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.OrderJpaRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark des mappers toDomain/toEntity de MySQLOrderRepositoryAdapter
+ * selon le nombre de lignes de commande.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    private OrderRepositoryPort adapter;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        OrderJpaEntity entity = BenchmarkFixtures.order("o-1", lines);
+        OrderJpaRepository jpaRepository = BenchmarkFixtures.stub(OrderJpaRepository.class, Map.of(
+                "findWithItemsById", args -> Optional.of(entity),
+                "save", args -> args[0]
+        ));
+        adapter = new MySQLOrderRepositoryAdapter(jpaRepository);
+        order = adapter.findById("o-1").orElseThrow();
+    }
+
+    @Benchmark
+    public Optional<Order> findById() {
+        return adapter.findById("o-1");
+    }
+
+    @Benchmark
+    public Order save() {
+        return adapter.save(order);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Facet;
+import com.ecommerce.domain.model.FacetFilter;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductFacetPort;
+import com.ecommerce.infrastructure.adapter.facet.InMemoryProductFacetAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark du filtrage par facettes sur un catalogue synthétique de {@code catalogSize}
+ * produits : 200 catégories, 8 fournisseurs, 50 magasins, prix de 1 à 2 000 000 FCFA, 90 % disponibles.
+ *
+ * Formes de filtre : aucun (compteurs du catalogue entier), une catégorie, une catégorie ET
+ * une tranche de prix ET disponible, (deux catégories OU) ET (deux fournisseurs OU), et
+ * deux résultats denses : « disponible » (90 % du catalogue) et « 1000000+ » (la moitié).
+ * Chaque appel renvoie la première page de 20 produits et tous les compteurs de facettes.
+ * « update » modifie un produit, « decrement » décrémente un stock.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ProductFacetBenchmark {
+
+    @Param({"1000000"})
+    private int catalogSize;
+
+    @Param({"none", "category", "threeFacets", "orAnd", "available", "half"})
+    private String shape;
+
+    private InMemoryProductFacetAdapter index;
+    private FacetFilter filter;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        index = new InMemoryProductFacetAdapter(new SimpleMeterRegistry());
+        for (int i = 0; i < catalogSize; i++) {
+            index.index(product(i));
+        }
+        filter = switch (shape) {
+            case "none" -> null;
+            case "category" -> category(7);
+            case "threeFacets" -> new FacetFilter.AllOf(List.of(category(7),
+                    new FacetFilter.Term(Facet.PRICE, "500000-1000000"), new FacetFilter.Term(Facet.AVAILABLE, "true")));
+            case "available" -> new FacetFilter.Term(Facet.AVAILABLE, "true");
+            case "half" -> new FacetFilter.Term(Facet.PRICE, "1000000+");
+            default -> new FacetFilter.AllOf(List.of(
+                    new FacetFilter.AnyOf(List.of(category(7), category(8))),
+                    new FacetFilter.AnyOf(List.of(new FacetFilter.Term(Facet.SUPPLIER, "f1"),
+                            new FacetFilter.Term(Facet.SUPPLIER, "f2")))));
+        };
+        ProductFacetPort.FacetResult sample = index.filter(filter, -1, 20);
+        System.out.printf("%n[%s] %d produits, %d sur la première page%n", shape, sample.total(), sample.hits().size());
+    }
+
+    @Benchmark
+    public ProductFacetPort.FacetResult filter() {
+        return index.filter(filter, -1, 20);
+    }
+
+    @Benchmark
+    public void update() {
+        index.index(product(random.nextInt(catalogSize)));
+    }
+
+    @Benchmark
+    public void decrement() {
+        index.stockDecreased("p-" + random.nextInt(catalogSize), 1);
+    }
+
+    private Product product(int i) {
+        return Product.builder()
+                .id("p-" + i).name("Produit " + i)
+                .supplierId("f" + (1 + random.nextInt(8)))
+                .storeId("m" + random.nextInt(50))
+                .category("cat-" + random.nextInt(200))
+                .price(BigDecimal.valueOf(1 + random.nextInt(2_000_000)))
+                .stock(random.nextInt(1000))
+                .available(random.nextInt(10) > 0)
+                .build();
+    }
+
+    private static FacetFilter category(int n) {
+        return new FacetFilter.Term(Facet.CATEGORY, "cat-" + n);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.MySQLProductRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark des mappers toDomain/toEntity de MySQLProductRepositoryAdapter,
+ * mesurés à travers le port avec un ProductJpaRepository en mémoire.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int catalogSize;
+
+    private ProductRepositoryPort adapter;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        List<ProductJpaEntity> catalog = BenchmarkFixtures.products(catalogSize);
+        ProductJpaRepository jpaRepository = BenchmarkFixtures.stub(ProductJpaRepository.class, Map.of(
+                "findAll", args -> catalog,
+                "save", args -> args[0]
+        ));
+        adapter = new MySQLProductRepositoryAdapter(jpaRepository, "f1");
+        product = adapter.findAll().get(0);
+    }
+
+    /** Mappe tout le catalogue (toDomain × catalogSize). */
+    @Benchmark
+    public List<Product> findAll() {
+        return adapter.findAll();
+    }
+
+    /** Aller-retour toEntity + toDomain sur un produit. */
+    @Benchmark
+    public Product save() {
+        return adapter.save(product);
+    }
+}
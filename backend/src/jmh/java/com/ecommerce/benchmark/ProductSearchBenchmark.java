@@ -0,0 +1,129 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductSearchPort;
+import com.ecommerce.infrastructure.adapter.search.InMemoryProductSearchAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la recherche plein texte sur un catalogue synthétique de {@code catalogSize}
+ * produits : vocabulaire de 30 000 mots tirés selon une loi de Zipf (quelques mots très
+ * fréquents, une longue traîne de mots rares), noms de 3 à 5 mots, descriptions de 12 à 24 mots.
+ *
+ * Formes de requête : un mot très fréquent (présent dans ~30 % des produits), deux mots
+ * fréquents (~30 % et ~10 %), un début de mot de 3 lettres (saisie incrémentale), un mot rare,
+ * et « update » qui réindexe un produit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+
+    private static final int VOCABULARY = 30_000;
+    private static final String[] SYLLABLES = {
+            "ba", "be", "bi", "bo", "ca", "ce", "ch", "co", "da", "de", "di", "do", "fa", "fé", "fo", "ga",
+            "gi", "la", "le", "li", "lo", "lu", "ma", "me", "mi", "mo", "na", "ne", "no", "pa", "pe", "pi",
+            "po", "ra", "re", "ri", "ro", "sa", "se", "si", "so", "ta", "te", "ti", "to", "va", "vé", "vi"};
+
+    @Param({"1000000"})
+    private int catalogSize;
+
+    @Param({"common", "twoWords", "prefix", "rare"})
+    private String shape;
+
+    private InMemoryProductSearchAdapter index;
+    private String[] vocabulary;
+    private double[] cumulative;
+    private String query;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        vocabulary = vocabulary(random);
+        cumulative = zipf();
+        index = new InMemoryProductSearchAdapter(new SimpleMeterRegistry());
+        for (int i = 0; i < catalogSize; i++) {
+            index.index(product(i));
+        }
+        // Les mots de rang 5 et 20 sont dans ~30 % et ~10 % des produits, celui de rang 20 000 dans une poignée
+        query = switch (shape) {
+            case "common" -> vocabulary[5];
+            case "twoWords" -> vocabulary[5] + " " + vocabulary[20];
+            case "prefix" -> vocabulary[40].substring(0, 3);
+            default -> vocabulary[20_000];
+        };
+        ProductSearchPort.SearchResult sample = index.search(query, 0, 20);
+        System.out.printf("%n[%s] q=\"%s\" : %d résultats sur la première page, suite=%s%n",
+                shape, query, sample.hits().size(), sample.hasMore());
+    }
+
+    @Benchmark
+    public ProductSearchPort.SearchResult search() {
+        return index.search(query, 0, 20);
+    }
+
+    @Benchmark
+    public void update() {
+        index.index(product(random.nextInt(catalogSize)));
+    }
+
+    private Product product(int i) {
+        return Product.builder()
+                .id("p-" + i).supplierId(i % 2 == 0 ? "f1" : "f2")
+                .name(words(3 + random.nextInt(3)))
+                .description(words(12 + random.nextInt(13)))
+                .category(vocabulary[random.nextInt(200)])
+                .build();
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            text.append(i == 0 ? "" : " ").append(vocabulary[Math.min(rank < 0 ? -rank - 1 : rank, VOCABULARY - 1)]);
+        }
+        return text.toString();
+    }
+
+    private static String[] vocabulary(Random random) {
+        List<String> words = new ArrayList<>(VOCABULARY);
+        Set<String> seen = new HashSet<>();
+        while (words.size() < VOCABULARY) {
+            StringBuilder word = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int s = 0; s < syllables; s++) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            if (seen.add(word.toString())) {
+                words.add(word.toString());
+            }
+        }
+        return words.toArray(String[]::new);
+    }
+
+    private static double[] zipf() {
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            cumulative[rank] /= total;
+        }
+        return cumulative;
+    }
+}
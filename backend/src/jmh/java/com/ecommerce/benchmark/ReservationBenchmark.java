@@ -0,0 +1,92 @@
+package com.ecommerce.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.StockHold;
+import com.ecommerce.domain.port.output.IdempotencyPort;
+import com.ecommerce.domain.port.output.OrderIntakePort;
+import com.ecommerce.domain.port.output.OrderMetricsPort;
+import com.ecommerce.domain.port.output.OrderRepositoryPort;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import com.ecommerce.domain.service.OrderService;
+import com.ecommerce.infrastructure.adapter.hold.InMemoryStockHoldAdapter;
+import com.ecommerce.infrastructure.adapter.inventory.InMemoryInventoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark d'un cycle réservation → abandon (validation, décrément, planification dans
+ * la roue des échéances, restitution) avec {@code activeHolds} réservations déjà en cours,
+ * sur le moteur de stock en mémoire : 8 threads, 1000 produits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ReservationBenchmark {
+
+    private static final int PRODUCTS = 1000;
+
+    @Param({"1000", "100000"})
+    private int activeHolds;
+
+    private OrderService orderService;
+
+    @Setup
+    public void setUp() {
+        // Les traces du service (une par mouvement de stock) domineraient la mesure
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+
+        ProductRepositoryPort repository = BenchmarkFixtures.stub(ProductRepositoryPort.class, Map.of(
+                "findById", args -> Optional.of(product((String) args[0])),
+                "findAllByIds", args -> ((Collection<?>) args[0]).stream().map(id -> product((String) id)).toList()));
+        SupplierRepositoryRouter router = BenchmarkFixtures.stub(SupplierRepositoryRouter.class, Map.of(
+                "getRepositoryForSupplier", args -> repository));
+        OrderRepositoryPort orders = BenchmarkFixtures.stub(OrderRepositoryPort.class, Map.of(
+                "save", args -> (Order) args[0]));
+        orderService = new OrderService(orders, repository, router,
+                BenchmarkFixtures.stub(OrderIntakePort.class, Map.of()),
+                new InMemoryInventoryAdapter(router),
+                new InMemoryStockHoldAdapter(100, new SimpleMeterRegistry()),
+                BenchmarkFixtures.stub(OrderMetricsPort.class, Map.of()),
+                BenchmarkFixtures.stub(IdempotencyPort.class, Map.of()));
+
+        for (int i = 0; i < activeHolds; i++) {
+            orderService.reserveStock("c-" + i, items(), Duration.ofMinutes(30));
+        }
+    }
+
+    @Benchmark
+    public StockHold reserveAndRelease() {
+        StockHold hold = orderService.reserveStock("c", items(), Duration.ofMinutes(10));
+        orderService.releaseHold("c", hold.getId());
+        return hold;
+    }
+
+    private static List<OrderItem> items() {
+        String productId = "p-" + ThreadLocalRandom.current().nextInt(PRODUCTS);
+        return List.of(OrderItem.builder().productId(productId).supplierId("f1").quantity(1).build());
+    }
+
+    private static Product product(String id) {
+        return Product.builder().id(id).name(id).supplierId("f1").price(BigDecimal.TEN)
+                .stock(Integer.MAX_VALUE).available(true).build();
+    }
+}
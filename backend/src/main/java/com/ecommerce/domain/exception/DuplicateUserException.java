@@ -0,0 +1,18 @@
+package com.ecommerce.domain.exception;
+
+public class DuplicateUserException extends RuntimeException {
+
+    /** Contrainte d'unicité violée. */
+    public enum Field { USERNAME, EMAIL }
+
+    private final Field field;
+
+    public DuplicateUserException(Field field) {
+        super("Utilisateur déjà existant (" + field.name().toLowerCase() + ")");
+        this.field = field;
+    }
+
+    public Field getField() {
+        return field;
+    }
+}
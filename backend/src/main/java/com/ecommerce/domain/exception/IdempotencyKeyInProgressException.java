@@ -0,0 +1,7 @@
+package com.ecommerce.domain.exception;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(String key) {
+        super("Une requête avec la clé d'idempotence " + key + " est encore en cours de traitement");
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecommerce.domain.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String key) {
+        super("Clé d'idempotence déjà utilisée pour une autre requête : " + key);
+    }
+}
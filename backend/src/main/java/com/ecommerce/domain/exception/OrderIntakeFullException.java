@@ -0,0 +1,7 @@
+package com.ecommerce.domain.exception;
+
+public class OrderIntakeFullException extends RuntimeException {
+    public OrderIntakeFullException() {
+        super("Trop de commandes en attente, veuillez réessayer dans quelques instants");
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecommerce.domain.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Service d'authentification momentanément saturé, veuillez réessayer dans quelques instants");
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecommerce.domain.exception;
+
+public class StockHoldNotFoundException extends RuntimeException {
+    public StockHoldNotFoundException(String holdId) {
+        super("Réservation introuvable ou expirée : " + holdId);
+    }
+}
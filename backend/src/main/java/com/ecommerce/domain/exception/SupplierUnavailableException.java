@@ -0,0 +1,7 @@
+package com.ecommerce.domain.exception;
+
+public class SupplierUnavailableException extends RuntimeException {
+    public SupplierUnavailableException(String supplierId) {
+        super("Fournisseur momentanément saturé : " + supplierId + ", veuillez réessayer dans quelques instants");
+    }
+}
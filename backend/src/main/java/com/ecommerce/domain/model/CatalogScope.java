@@ -0,0 +1,15 @@
+package com.ecommerce.domain.model;
+
+/**
+ * Portée d'une lecture du catalogue, pour en connaître la version.
+ */
+public enum CatalogScope {
+    /** Tout le catalogue (la clé est ignorée). */
+    ALL,
+    /** Un produit, clé = id du produit. */
+    PRODUCT,
+    /** Produits d'un fournisseur, clé = id du fournisseur. */
+    SUPPLIER,
+    /** Produits d'une catégorie, clé = nom de la catégorie. */
+    CATEGORY
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.domain.model;
+
+import java.util.List;
+
+/**
+ * Page de résultats paginée par curseur (keyset).
+ *
+ * @param items      éléments de la page, dans l'ordre de tri stable
+ * @param nextCursor curseur opaque à renvoyer pour obtenir la page suivante, null si c'est la dernière
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
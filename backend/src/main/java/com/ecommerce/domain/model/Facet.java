@@ -0,0 +1,65 @@
+package com.ecommerce.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Attributs du catalogue sur lesquels on peut filtrer et compter (facettes).
+ * Le prix (FCFA) est découpé en tranches fixes : "0-5000", "5000-10000", ..., "1000000+".
+ */
+public enum Facet {
+    CATEGORY("category"),
+    SUPPLIER("supplierId"),
+    STORE("storeId"),
+    AVAILABLE("available"),
+    PRICE("price");
+
+    private static final int[] PRICE_BOUNDS = {5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000};
+
+    private final String key;
+
+    Facet(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Nom de la facette dans les filtres et les compteurs exposés.
+     */
+    public String key() {
+        return key;
+    }
+
+    public static Facet fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(facet -> facet.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Facette inconnue: " + key));
+    }
+
+    /**
+     * Valeur de la facette pour un produit, null si l'attribut n'est pas renseigné.
+     */
+    public String valueOf(Product product) {
+        return switch (this) {
+            case CATEGORY -> product.getCategory();
+            case SUPPLIER -> product.getSupplierId();
+            case STORE -> product.getStoreId();
+            case AVAILABLE -> Boolean.toString(product.isAvailable());
+            case PRICE -> priceBucket(product.getPrice());
+        };
+    }
+
+    static String priceBucket(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+        int lower = 0;
+        for (int bound : PRICE_BOUNDS) {
+            if (price.compareTo(BigDecimal.valueOf(bound)) < 0) {
+                return lower + "-" + bound;
+            }
+            lower = bound;
+        }
+        return lower + "+";
+    }
+}
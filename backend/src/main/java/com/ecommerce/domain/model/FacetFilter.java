@@ -0,0 +1,25 @@
+package com.ecommerce.domain.model;
+
+import java.util.List;
+
+/**
+ * Filtre du catalogue par facettes : conditions "facette = valeur" combinées
+ * librement par ET / OU.
+ */
+public sealed interface FacetFilter {
+
+    /**
+     * Produits dont la facette a exactement cette valeur.
+     */
+    record Term(Facet facet, String value) implements FacetFilter {}
+
+    /**
+     * Produits qui satisfont toutes les conditions.
+     */
+    record AllOf(List<FacetFilter> filters) implements FacetFilter {}
+
+    /**
+     * Produits qui satisfont au moins une des conditions.
+     */
+    record AnyOf(List<FacetFilter> filters) implements FacetFilter {}
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page du catalogue filtré par facettes, avec les compteurs de facettes.
+ *
+ * @param items      produits de la page, dans l'ordre d'entrée au catalogue
+ * @param nextCursor curseur à renvoyer pour obtenir la page suivante, null si c'est la dernière
+ * @param total      nombre total de produits qui satisfont le filtre
+ * @param facets     pour chaque facette (clé "category", "price", ...), nombre de produits
+ *                   du résultat par valeur
+ */
+public record FacetedProducts(List<Product> items, String nextCursor, int total,
+                              Map<String, Map<String, Integer>> facets) {
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.domain.model;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Catalogue agrégé sur toutes les bases fournisseurs.
+ *
+ * @param products          produits fusionnés et triés (nom, puis id)
+ * @param timedOutSuppliers fournisseurs qui n'ont pas répondu dans le délai imparti
+ * @param failedSuppliers   fournisseurs dont la lecture a échoué
+ */
+public record FederatedProducts(List<Product> products, Set<String> timedOutSuppliers, Set<String> failedSuppliers) {
+
+    /**
+     * Vrai si au moins un fournisseur manque dans le résultat.
+     */
+    public boolean isPartial() {
+        return !timedOutSuppliers.isEmpty() || !failedSuppliers.isEmpty();
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Vue légère d'une commande pour l'historique client : pas de lignes,
+ * le nombre de lignes et le total sont calculés par la base.
+ */
+public record OrderSummary(String id, Order.OrderStatus status, LocalDateTime createdAt,
+                           long itemCount, BigDecimal total) {
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Critères de listing paginé du catalogue.
+ * Tous les filtres sont optionnels (null = pas de filtre).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchCriteria {
+    private String supplierId;
+    private String category;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Boolean available;
+    private String cursor;   // Curseur renvoyé par la page précédente
+    private int limit;       // Taille de page, bornée par le service
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * CŒUR MÉTIER - Réservation temporaire de stock pendant le checkout.
+ *
+ * Les quantités sont retirées du stock à la réservation : le catalogue ne les
+ * propose plus aux autres clients. Elles y reviennent si la réservation
+ * expire ou est abandonnée avant d'être transformée en commande.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockHold {
+    private String id;
+    private String customerId;
+    private List<OrderItem> items;
+    private Instant createdAt;
+    private Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -1,8 +1,12 @@
 package com.ecommerce.domain.port.input;
 
+import com.ecommerce.domain.model.CursorPage;
 import com.ecommerce.domain.model.Order;
 import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderSummary;
+import com.ecommerce.domain.model.StockHold;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +33,67 @@ public interface OrderUseCase {
      */
     Order placeOrder(String customerId, List<OrderItem> items, String shippingAddress);
 
+    /**
+     * Mode asynchrone : valide la commande et la dépose dans la file de traitement.
+     * Les stocks sont décrémentés plus tard, par lot (voir processOrderBatch).
+     *
+     * @return la commande acceptée, à l'état PENDING
+     * @throws com.ecommerce.domain.exception.OrderIntakeFullException si la file est pleine
+     */
+    Order submitOrder(String customerId, List<OrderItem> items, String shippingAddress);
+
+    /**
+     * Variantes idempotentes de placeOrder et submitOrder (en-tête Idempotency-Key).
+     * Une requête rejouée avec la même clé renvoie la commande déjà créée, sans nouveau
+     * décrément de stock ; une clé vide ou absente désactive la déduplication.
+     */
+    Order placeOrder(String customerId, List<OrderItem> items, String shippingAddress, String idempotencyKey);
+
+    Order submitOrder(String customerId, List<OrderItem> items, String shippingAddress, String idempotencyKey);
+
+    /**
+     * Traite un lot de commandes acceptées : décrément des stocks en une transaction
+     * par fournisseur, puis confirmation (ou annulation si le stock manque) et sauvegarde.
+     * Chaque commande est réglée isolément : une commande qui ne peut pas être enregistrée
+     * récupère son stock et est annulée (ou abandonnée), sans effet sur les autres.
+     * Une exception n'est levée qu'avant tout mouvement de stock : le lot peut alors être rejoué.
+     */
+    List<Order> processOrderBatch(List<Order> orders);
+
+    /**
+     * Réserve le stock d'un panier pour la durée du checkout.
+     * Le stock est décrémenté tout de suite et rendu si la réservation expire.
+     *
+     * @param ttl durée de la réservation (null : durée par défaut), bornée par le service
+     * @return la réservation, avec son identifiant et son échéance
+     */
+    StockHold reserveStock(String customerId, List<OrderItem> items, Duration ttl);
+
+    /**
+     * Transforme une réservation en commande confirmée, sans nouveau décrément de stock.
+     *
+     * @throws com.ecommerce.domain.exception.StockHoldNotFoundException si la réservation
+     *         n'existe pas, appartient à un autre client ou a expiré
+     */
+    Order placeOrderFromHold(String customerId, String holdId, String shippingAddress);
+
+    /**
+     * Abandonne une réservation et rend son stock.
+     */
+    void releaseHold(String customerId, String holdId);
+
+    /**
+     * Rend le stock des réservations arrivées à échéance.
+     *
+     * @return le nombre de réservations expirées
+     */
+    int releaseExpiredHolds();
+
+    /**
+     * Statut d'une commande, y compris si elle est encore en file d'attente.
+     */
+    Optional<Order.OrderStatus> getOrderStatus(String orderId);
+
     /**
      * Récupère une commande par son ID.
      */
@@ -39,6 +104,11 @@ public interface OrderUseCase {
      */
     List<Order> getOrdersByCustomer(String customerId);
 
+    /**
+     * Historique paginé (par curseur) des commandes d'un client, en vue résumée.
+     */
+    CursorPage<OrderSummary> getOrderSummariesByCustomer(String customerId, String cursor, int limit);
+
     /**
      * Annule une commande.
      */
@@ -1,9 +1,16 @@
 package com.ecommerce.domain.port.input;
 
+import com.ecommerce.domain.model.CatalogScope;
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.FacetFilter;
+import com.ecommerce.domain.model.FacetedProducts;
+import com.ecommerce.domain.model.FederatedProducts;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * PORT D'ENTRÉE - Cas d'usage produit.
@@ -17,6 +24,18 @@ public interface ProductUseCase {
      */
     List<Product> getAllProducts();
 
+    /**
+     * Parcourt tous les produits un par un, sans les charger ensemble en mémoire
+     * (listing complet écrit en flux dans la réponse HTTP).
+     */
+    void streamAllProducts(Consumer<Product> action);
+
+    /**
+     * Catalogue agrégé sur toutes les bases fournisseurs (lecture fédérée).
+     * Peut être partiel si un fournisseur ne répond pas à temps.
+     */
+    FederatedProducts getFederatedCatalog();
+
     /**
      * Récupère un produit par son ID.
      */
@@ -33,6 +52,35 @@ public interface ProductUseCase {
      */
     List<Product> getProductsByCategory(String category);
 
+    /**
+     * Parcourt le catalogue page par page (pagination par curseur),
+     * avec filtres optionnels sur fournisseur, catégorie, prix et disponibilité.
+     */
+    CursorPage<Product> searchProducts(ProductSearchCriteria criteria);
+
+    /**
+     * Recherche plein texte (nom, description, catégorie), résultats classés par pertinence.
+     * Insensible à la casse et aux accents ; le dernier mot peut être incomplet.
+     *
+     * @param cursor curseur renvoyé par la page précédente, null pour la première page
+     */
+    CursorPage<Product> searchCatalog(String query, String cursor, int limit);
+
+    /**
+     * Filtre le catalogue par facettes (catégorie, fournisseur, magasin, disponibilité,
+     * tranche de prix) combinées par ET / OU, avec le nombre de produits par valeur de facette.
+     *
+     * @param filter filtre à appliquer, null pour tout le catalogue
+     * @param cursor curseur renvoyé par la page précédente, null pour la première page
+     */
+    FacetedProducts filterCatalog(FacetFilter filter, String cursor, int limit);
+
+    /**
+     * Version courante d'une lecture du catalogue (tout, un produit, un fournisseur, une catégorie),
+     * connue sans accès à la base. Elle change dès qu'une écriture peut modifier cette lecture.
+     */
+    long catalogVersion(CatalogScope scope, String key);
+
     /**
      * Crée un nouveau produit (Admin seulement).
      */
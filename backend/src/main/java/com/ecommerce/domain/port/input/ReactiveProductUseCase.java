@@ -0,0 +1,24 @@
+package com.ecommerce.domain.port.input;
+
+import com.ecommerce.domain.model.Product;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PORT D'ENTRÉE - Lectures réactives du catalogue.
+ *
+ * Mêmes lectures que ProductUseCase, sans thread bloqué pendant l'accès à la base.
+ */
+public interface ReactiveProductUseCase {
+
+    Flux<Product> getAllProducts();
+
+    /**
+     * Vide si le produit n'existe pas.
+     */
+    Mono<Product> getProductById(String productId);
+
+    Flux<Product> getProductsBySupplier(String supplierId);
+
+    Flux<Product> getProductsByCategory(String category);
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.model.CatalogScope;
+
+/**
+ * PORT DE SORTIE - Versions du catalogue.
+ *
+ * Une version change à chaque écriture (produit, suppression, stock) qui peut modifier le
+ * résultat de la lecture correspondante. Deux lectures de même version renvoient les mêmes
+ * données : une version inchangée dispense de relire la base.
+ */
+public interface CatalogVersionPort {
+
+    long versionOf(CatalogScope scope, String key);
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.model.Order;
+
+import java.util.function.Supplier;
+
+/**
+ * PORT DE SORTIE - Déduplication des commandes rejouées par les clients (Idempotency-Key).
+ *
+ * Une clé n'exécute son action qu'une fois : un doublon reçoit la commande déjà créée,
+ * un doublon concurrent attend la fin de la première exécution. Une exécution en échec
+ * ne retient pas la clé (le client pourra réessayer).
+ */
+public interface IdempotencyPort {
+
+    /**
+     * Exécute {@code action} si la clé est inconnue, sinon renvoie son résultat.
+     *
+     * @param key         clé d'idempotence (déjà préfixée par le client)
+     * @param fingerprint empreinte de la requête : une même clé ne peut servir qu'à une même requête
+     * @throws com.ecommerce.domain.exception.IdempotencyKeyMismatchException si la clé a servi à une autre requête
+     * @throws com.ecommerce.domain.exception.IdempotencyKeyInProgressException si la première exécution dure trop
+     */
+    Order executeOnce(String key, String fingerprint, Supplier<Order> action);
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.port.output.ProductRepositoryPort.StockDecrement;
+
+import java.util.List;
+
+/**
+ * PORT DE SORTIE - Mouvements de stock lors des ventes.
+ *
+ * Décide si une quantité peut être vendue et la retire du stock du fournisseur.
+ * L'implémentation peut écrire directement dans la base du fournisseur
+ * ou tenir les niveaux en mémoire et les reporter en base de manière différée.
+ */
+public interface InventoryPort {
+
+    /**
+     * Retire la quantité du stock, uniquement s'il reste assez d'unités.
+     *
+     * @return true si le stock a été décrémenté, false si le stock était insuffisant
+     */
+    boolean tryDecrease(String supplierId, String productId, int quantity);
+
+    /**
+     * Plusieurs décréments conditionnels pour un même fournisseur.
+     *
+     * Une exception signifie qu'aucun décrément du lot n'a été appliqué.
+     *
+     * @return pour chaque décrément, dans le même ordre, true s'il a été appliqué
+     */
+    boolean[] tryDecreaseAll(String supplierId, List<StockDecrement> decrements);
+
+    /**
+     * Rend des unités au stock (compensation d'une commande échouée).
+     */
+    void increase(String supplierId, String productId, int quantity);
+
+    /**
+     * Signale que le stock du produit a été modifié hors ventes (mise à jour, suppression) :
+     * la prochaine vente doit repartir de la valeur en base.
+     */
+    void evict(String supplierId, String productId);
+}
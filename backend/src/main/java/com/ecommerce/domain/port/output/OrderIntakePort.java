@@ -0,0 +1,35 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.model.Order;
+
+/**
+ * PORT DE SORTIE - File d'attente des commandes acceptées en mode asynchrone.
+ *
+ * Les commandes validées y sont déposées puis traitées par lots
+ * (décrément des stocks, confirmation, sauvegarde) hors du thread de la requête.
+ */
+public interface OrderIntakePort {
+
+    /**
+     * Dépose une commande validée dans la file.
+     *
+     * @return false si la file est pleine
+     */
+    boolean enqueue(Order order);
+
+    /**
+     * Vrai si la commande a été acceptée mais pas encore traitée.
+     */
+    boolean isPending(String orderId);
+
+    /**
+     * Commande acceptée dont le traitement a échoué sans qu'elle puisse être enregistrée :
+     * son stock a été rendu et son statut reste consultable (annulée) au lieu de disparaître.
+     */
+    void abandon(String orderId);
+
+    /**
+     * Vrai si la commande a été abandonnée (voir {@link #abandon(String)}).
+     */
+    boolean isAbandoned(String orderId);
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.model.Order;
+
+/**
+ * PORT DE SORTIE - Indicateurs métier des ventes.
+ *
+ * Le domaine signale les événements ; l'adaptateur choisit où les publier.
+ */
+public interface OrderMetricsPort {
+
+    /**
+     * Une commande a été confirmée (ses articles sont vendus).
+     */
+    void orderPlaced(Order order);
+
+    /**
+     * Un article a été refusé faute de stock chez ce fournisseur.
+     */
+    void stockRejected(String supplierId);
+}
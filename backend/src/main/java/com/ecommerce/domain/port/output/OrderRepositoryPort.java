@@ -1,6 +1,8 @@
 package com.ecommerce.domain.port.output;
 
+import com.ecommerce.domain.model.CursorPage;
 import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderSummary;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +17,13 @@ public interface OrderRepositoryPort {
 
     List<Order> findByCustomerId(String customerId);
 
+    /**
+     * Historique paginé d'un client (plus récentes d'abord), sans charger les lignes.
+     *
+     * @param cursor curseur renvoyé par la page précédente, null pour la première page
+     */
+    CursorPage<OrderSummary> findSummariesByCustomerId(String customerId, String cursor, int limit);
+
     List<Order> findAll();
 
     Order save(Order order);
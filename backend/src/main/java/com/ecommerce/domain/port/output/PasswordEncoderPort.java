@@ -3,8 +3,17 @@ package com.ecommerce.domain.port.output;
 /**
  * PORT DE SORTIE - Abstraction pour l'encodage des mots de passe.
  * Permet de ne pas coupler le domaine à BCrypt ou autre implémentation.
+ *
+ * encode et matches sont coûteux par construction ; une implémentation peut les
+ * refuser sous charge (PasswordHashingBusyException) plutôt que de les mettre en attente.
  */
 public interface PasswordEncoderPort {
     String encode(String rawPassword);
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Vrai si le hash a été produit avec d'autres paramètres que ceux configurés
+     * (coût BCrypt modifié) : il doit être recalculé à la prochaine connexion.
+     */
+    boolean needsRehash(String encodedPassword);
 }
@@ -0,0 +1,36 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.model.FacetFilter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PORT DE SORTIE - Filtrage du catalogue par facettes (catégorie, fournisseur, magasin,
+ * disponibilité, tranche de prix) et comptage des valeurs de facettes.
+ *
+ * Chaque produit a un rang stable (ordre d'entrée au catalogue) qui sert de curseur de
+ * pagination. Comme pour la recherche, seules des références sont renvoyées : le produit
+ * est relu dans la base de son fournisseur.
+ */
+public interface ProductFacetPort {
+
+    /**
+     * Produits qui satisfont le filtre, dans l'ordre des rangs.
+     *
+     * @param filter filtre à appliquer, null pour tout le catalogue
+     * @param after  rang du dernier produit de la page précédente, -1 pour la première page
+     * @param limit  nombre maximal de produits renvoyés
+     */
+    FacetResult filter(FacetFilter filter, int after, int limit);
+
+    /**
+     * @param hits    produits de la page
+     * @param last    rang du dernier produit de la page (curseur de la page suivante)
+     * @param hasMore vrai s'il reste des produits après la page
+     * @param total   nombre total de produits qui satisfont le filtre
+     * @param counts  par facette, nombre de produits du résultat pour chaque valeur
+     */
+    record FacetResult(List<ProductSearchPort.Hit> hits, int last, boolean hasMore, int total,
+                       Map<String, Map<String, Integer>> counts) {}
+}
@@ -1,9 +1,13 @@
 package com.ecommerce.domain.port.output;
 
+import com.ecommerce.domain.model.CursorPage;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * PORT DE SORTIE - Interface d'accès aux données produit.
@@ -17,10 +21,30 @@ public interface ProductRepositoryPort {
 
     List<Product> findAll();
 
+    /**
+     * Parcourt tout le catalogue en flux : chaque produit est passé à action dès sa lecture,
+     * sans liste intermédiaire (mémoire constante quelle que soit la taille du catalogue).
+     * La connexion reste occupée jusqu'au dernier produit ; une exception levée par action
+     * interrompt le parcours.
+     */
+    void streamAll(Consumer<Product> action);
+
+    /**
+     * Récupère plusieurs produits en un seul aller-retour (requête IN).
+     * Les identifiants inconnus sont simplement absents du résultat.
+     */
+    List<Product> findAllByIds(Collection<String> productIds);
+
     List<Product> findBySupplierId(String supplierId);
 
     List<Product> findByCategory(String category);
 
+    /**
+     * Listing paginé par curseur, trié par identifiant (ordre stable).
+     * Ne lit que criteria.limit produits, quelle que soit la taille du catalogue.
+     */
+    CursorPage<Product> findPage(ProductSearchCriteria criteria);
+
     Product save(Product product);
 
     void deleteById(String productId);
@@ -32,4 +56,32 @@ public interface ProductRepositoryPort {
      * Appelé après une vente, sur la base du fournisseur correspondant.
      */
     void updateStock(String productId, int newStock);
+
+    /**
+     * Décrémente le stock de manière atomique, uniquement s'il reste assez d'unités.
+     * Remplace la séquence lecture / calcul / écriture qui provoquait des surventes
+     * lors de commandes concurrentes.
+     *
+     * @return true si le stock a été décrémenté, false si le stock était insuffisant
+     */
+    boolean decreaseStockIfAvailable(String productId, int quantity);
+
+    /**
+     * Applique plusieurs décréments conditionnels dans une seule transaction
+     * (traitement par lots des commandes asynchrones).
+     *
+     * @return pour chaque décrément, dans le même ordre, true s'il a été appliqué
+     */
+    boolean[] decreaseStockBatch(List<StockDecrement> decrements);
+
+    /**
+     * Réincrémente le stock d'un produit (compensation d'une commande échouée).
+     * Un produit épuisé redevient disponible ; la disponibilité fixée par un admin est conservée.
+     */
+    void increaseStock(String productId, int quantity);
+
+    /**
+     * Décrément de stock demandé pour un produit.
+     */
+    record StockDecrement(String productId, int quantity) {}
 }
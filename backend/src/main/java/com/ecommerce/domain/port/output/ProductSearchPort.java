@@ -0,0 +1,29 @@
+package com.ecommerce.domain.port.output;
+
+import java.util.List;
+
+/**
+ * PORT DE SORTIE - Recherche plein texte dans le catalogue.
+ *
+ * Index sur le nom, la description et la catégorie des produits, tenu à jour à chaque
+ * écriture du catalogue. Il ne renvoie que des références classées par pertinence :
+ * le produit lui-même (prix, stock) est relu dans la base de son fournisseur.
+ */
+public interface ProductSearchPort {
+
+    /**
+     * Produits contenant tous les mots de la requête ; le dernier mot peut n'être qu'un début de mot.
+     *
+     * @param offset rang du premier résultat renvoyé (0 pour le plus pertinent)
+     * @param limit  nombre maximal de résultats
+     */
+    SearchResult search(String query, int offset, int limit);
+
+    record Hit(String productId, String supplierId) {}
+
+    /**
+     * @param hits    résultats, du plus pertinent au moins pertinent
+     * @param hasMore vrai s'il existe des résultats au-delà de offset + limit
+     */
+    record SearchResult(List<Hit> hits, boolean hasMore) {}
+}
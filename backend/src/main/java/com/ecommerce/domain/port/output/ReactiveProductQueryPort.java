@@ -0,0 +1,23 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.model.Product;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PORT DE SORTIE - Lectures non bloquantes du catalogue.
+ *
+ * Côté lecture seulement : les écritures restent sur ProductRepositoryPort.
+ * Les Flux suivent la demande de l'abonné (backpressure) : la base n'envoie
+ * que ce que le client HTTP a pu consommer.
+ */
+public interface ReactiveProductQueryPort {
+
+    Flux<Product> findAll();
+
+    Mono<Product> findById(String productId);
+
+    Flux<Product> findBySupplierId(String supplierId);
+
+    Flux<Product> findByCategory(String category);
+}
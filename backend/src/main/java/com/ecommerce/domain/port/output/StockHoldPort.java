@@ -0,0 +1,36 @@
+package com.ecommerce.domain.port.output;
+
+import com.ecommerce.domain.model.StockHold;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PORT DE SORTIE - Réservations de stock actives et leur échéance.
+ *
+ * Le stock réservé est déjà retiré de l'inventaire : ce port ne fait que garder
+ * les réservations jusqu'à leur confirmation, leur abandon ou leur expiration.
+ */
+public interface StockHoldPort {
+
+    /**
+     * Enregistre une réservation et planifie son expiration à hold.expiresAt.
+     */
+    void save(StockHold hold);
+
+    Optional<StockHold> findById(String holdId);
+
+    /**
+     * Retire une réservation. Un seul appelant obtient la réservation :
+     * c'est lui qui la confirme ou rend son stock.
+     *
+     * @return la réservation retirée, vide si elle n'existe plus
+     */
+    Optional<StockHold> remove(String holdId);
+
+    /**
+     * Retire et renvoie les réservations arrivées à échéance à l'instant {@code now}.
+     */
+    List<StockHold> removeExpired(Instant now);
+}
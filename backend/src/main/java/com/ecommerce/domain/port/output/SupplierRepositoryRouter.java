@@ -1,5 +1,15 @@
 package com.ecommerce.domain.port.output;
 
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.FederatedProducts;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
 /**
  * PORT DE SORTIE - Routeur vers la base de données du fournisseur.
  *
@@ -16,4 +26,46 @@ public interface SupplierRepositoryRouter {
      * @return le port de dépôt adapté à ce fournisseur
      */
     ProductRepositoryPort getRepositoryForSupplier(String supplierId);
+
+    /**
+     * Identifiants des fournisseurs enregistrés (ceux de product.suppliers),
+     * sans le dépôt par défaut utilisé pour les fournisseurs inconnus.
+     */
+    Set<String> getSupplierIds();
+
+    /**
+     * Interroge en parallèle les bases de tous les fournisseurs enregistrés.
+     * La latence est bornée par le fournisseur le plus lent (ou le délai par fournisseur),
+     * pas par la somme des temps de réponse. Les fournisseurs en retard ou en erreur
+     * sont signalés dans le résultat au lieu de faire échouer la lecture.
+     */
+    FederatedProducts findAllAcrossSuppliers();
+
+    /**
+     * Cherche un produit par identifiant dans la base par défaut, puis dans les bases
+     * propres aux fournisseurs (DataSource ou base MongoDB dédiée).
+     */
+    Optional<Product> findProductById(String productId);
+
+    /**
+     * Tout le catalogue : la base par défaut et chaque base propre à des fournisseurs, lues l'une après l'autre.
+     */
+    List<Product> findAllProducts();
+
+    /**
+     * Parcourt en flux tout le catalogue, base par défaut puis bases propres aux fournisseurs
+     * (voir ProductRepositoryPort.streamAll).
+     */
+    void streamAllProducts(Consumer<Product> action);
+
+    /**
+     * Produits d'une catégorie, dans la base par défaut et dans chaque base propre à des fournisseurs.
+     */
+    List<Product> findProductsByCategory(String category);
+
+    /**
+     * Page du catalogue sur toutes les bases (voir ProductRepositoryPort.findPage) : chaque base
+     * renvoie sa page après le curseur, les pages sont fusionnées par identifiant puis coupées à criteria.limit.
+     */
+    CursorPage<Product> findProductPage(ProductSearchCriteria criteria);
 }
@@ -2,6 +2,9 @@ package com.ecommerce.domain.port.output;
 
 import com.ecommerce.domain.model.User;
 
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * PORT DE SORTIE - Génération et validation de tokens JWT.
  * Abstraction pour ne pas coupler le domaine à une bibliothèque JWT spécifique.
@@ -11,4 +14,16 @@ public interface TokenGeneratorPort {
     String extractUsername(String token);
     boolean validateToken(String token);
     long getExpirationTime();
+
+    /**
+     * Vérifie la signature et décode le token en une seule passe.
+     *
+     * @return les informations portées par le token, vide si le token est invalide ou expiré
+     */
+    Optional<TokenClaims> verifyAndDecode(String token);
+
+    /**
+     * Informations d'identité portées par un token valide.
+     */
+    record TokenClaims(String username, String userId, Set<String> roles) {}
 }
@@ -35,6 +35,14 @@ public interface UserRepositoryPort {
      */
     User save(User user);
 
+    /**
+     * Insère un nouvel utilisateur en une seule écriture. L'unicité du username et de
+     * l'email est garantie par le stockage (index uniques), pas par une lecture préalable.
+     *
+     * @throws com.ecommerce.domain.exception.DuplicateUserException si le username ou l'email existe déjà
+     */
+    User create(User user);
+
     /**
      * Vérifie l'existence d'un username.
      */
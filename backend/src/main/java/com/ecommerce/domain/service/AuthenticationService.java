@@ -1,6 +1,7 @@
 package com.ecommerce.domain.service;
 
 import com.ecommerce.domain.exception.AuthenticationException;
+import com.ecommerce.domain.exception.DuplicateUserException;
 import com.ecommerce.domain.model.User;
 import com.ecommerce.domain.port.input.AuthenticationUseCase;
 import com.ecommerce.domain.port.output.PasswordEncoderPort;
@@ -51,25 +52,37 @@ public class AuthenticationService implements AuthenticationUseCase {
             throw new AuthenticationException("Compte désactivé. Contactez l'administrateur.");
         }
 
-        // 4. Générer le token JWT
+        // 4. Coût BCrypt modifié depuis le dernier calcul : on profite du mot de passe en clair
+        rehashIfNeeded(user, password);
+
+        // 5. Générer le token JWT
         String token = tokenGenerator.generateToken(user);
         log.info("Connexion réussie pour: {}", username);
 
         return new AuthResult(user, token, tokenGenerator.getExpirationTime());
     }
 
+    /**
+     * Recalcule le hash avec le coût configuré. Best effort : un échec (pool saturé,
+     * base indisponible) ne fait pas échouer la connexion, on réessaiera à la suivante.
+     */
+    private void rehashIfNeeded(User user, String password) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+            log.info("Mot de passe de {} rehaché avec le coût configuré", user.getUsername());
+        } catch (RuntimeException e) {
+            log.warn("Rehachage du mot de passe de {} reporté: {}", user.getUsername(), e.getMessage());
+        }
+    }
+
     @Override
     public User register(User user) {
         log.info("Enregistrement d'un nouvel utilisateur: {}", user.getUsername());
 
-        // Vérifications métier
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new AuthenticationException("Ce nom d'utilisateur est déjà pris");
-        }
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new AuthenticationException("Cet email est déjà utilisé");
-        }
-
         // Hashage du mot de passe
         user.setPassword(passwordEncoder.encode(user.getPassword()));
 
@@ -79,7 +92,16 @@ public class AuthenticationService implements AuthenticationUseCase {
         }
         user.setActive(true);
 
-        User saved = userRepository.save(user);
+        // Une seule écriture : les doublons sont détectés par les index uniques du stockage,
+        // ce qui ferme aussi la course entre deux inscriptions simultanées du même nom
+        User saved;
+        try {
+            saved = userRepository.create(user);
+        } catch (DuplicateUserException e) {
+            throw new AuthenticationException(e.getField() == DuplicateUserException.Field.USERNAME
+                    ? "Ce nom d'utilisateur est déjà pris"
+                    : "Cet email est déjà utilisé");
+        }
         log.info("Utilisateur enregistré avec succès: {}", saved.getId());
         return saved;
     }
@@ -1,22 +1,44 @@
 package com.ecommerce.domain.service;
 
+import com.ecommerce.domain.exception.OrderIntakeFullException;
 import com.ecommerce.domain.exception.OrderNotFoundException;
 import com.ecommerce.domain.exception.ProductNotFoundException;
+import com.ecommerce.domain.exception.StockHoldNotFoundException;
+import com.ecommerce.domain.model.CursorPage;
 import com.ecommerce.domain.model.Order;
 import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderSummary;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.StockHold;
 import com.ecommerce.domain.port.input.OrderUseCase;
+import com.ecommerce.domain.port.output.IdempotencyPort;
+import com.ecommerce.domain.port.output.InventoryPort;
+import com.ecommerce.domain.port.output.OrderIntakePort;
+import com.ecommerce.domain.port.output.OrderMetricsPort;
 import com.ecommerce.domain.port.output.OrderRepositoryPort;
 import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.StockHoldPort;
 import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * SERVICE MÉTIER - Logique de commande et vente.
@@ -31,36 +53,331 @@ import java.util.UUID;
 @Slf4j
 public class OrderService implements OrderUseCase {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final Duration DEFAULT_HOLD_TTL = Duration.ofMinutes(10);
+    static final Duration MAX_HOLD_TTL = Duration.ofMinutes(30);
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final OrderRepositoryPort orderRepository;
     private final ProductRepositoryPort defaultProductRepository;  // Pour consultation globale
     private final SupplierRepositoryRouter supplierRouter;         // Pour mise à jour ciblée par fournisseur
+    private final OrderIntakePort orderIntake;                     // File du mode asynchrone
+    private final InventoryPort inventory;                         // Décision de vente et mouvements de stock
+    private final StockHoldPort stockHolds;                        // Réservations de stock en cours de checkout
+    private final OrderMetricsPort orderMetrics;                   // Indicateurs métier (commandes, ventes, refus)
+    private final IdempotencyPort idempotency;                     // Déduplication des requêtes rejouées
 
     @Override
     public Order placeOrder(String customerId, List<OrderItem> items, String shippingAddress) {
         log.info("Passage de commande pour le client: {} avec {} articles", customerId, items.size());
 
         // 1. Vérifier le stock pour chaque article et enrichir les données
+        validateAndEnrich(items);
+
+        // 2. Créer la commande dans l'état PENDING
+        Order order = newPendingOrder(customerId, items, shippingAddress);
+
+        // 3. Décrémenter les stocks du FOURNISSEUR CONCERNÉ
+        decreaseStock(items);
+
+        // 4. Confirmer la commande
+        order.confirm();
+
+        // 5. Sauvegarder et retourner ; sans commande enregistrée, le stock retiré est rendu
+        Order savedOrder;
+        try {
+            savedOrder = orderRepository.save(order);
+        } catch (RuntimeException e) {
+            restoreStock(items);
+            throw e;
+        }
+        orderMetrics.orderPlaced(savedOrder);
+        log.info("Commande créée avec succès: {}", savedOrder.getId());
+        return savedOrder;
+    }
+
+    @Override
+    public Order submitOrder(String customerId, List<OrderItem> items, String shippingAddress) {
+        log.info("Commande asynchrone pour le client: {} avec {} articles", customerId, items.size());
+
+        // 1. Même validation que le mode synchrone : une commande vouée à l'échec est refusée tout de suite
+        validateAndEnrich(items);
+
+        // 2. Déposer la commande PENDING dans la file ; les stocks seront décrémentés par lot
+        Order order = newPendingOrder(customerId, items, shippingAddress);
+        if (!orderIntake.enqueue(order)) {
+            throw new OrderIntakeFullException();
+        }
+        log.info("Commande acceptée en file: {}", order.getId());
+        return order;
+    }
+
+    @Override
+    public Order placeOrder(String customerId, List<OrderItem> items, String shippingAddress, String idempotencyKey) {
+        return once(customerId, idempotencyKey, items, shippingAddress,
+                () -> placeOrder(customerId, items, shippingAddress));
+    }
+
+    @Override
+    public Order submitOrder(String customerId, List<OrderItem> items, String shippingAddress, String idempotencyKey) {
+        return once(customerId, idempotencyKey, items, shippingAddress,
+                () -> submitOrder(customerId, items, shippingAddress));
+    }
+
+    /**
+     * Les clés sont propres à chaque client : deux clients peuvent choisir la même.
+     */
+    private Order once(String customerId, String idempotencyKey, List<OrderItem> items, String shippingAddress,
+                       Supplier<Order> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Clé d'idempotence trop longue (" + MAX_IDEMPOTENCY_KEY_LENGTH + " caractères au plus)");
+        }
+        return idempotency.executeOnce(customerId + ":" + idempotencyKey, fingerprint(items, shippingAddress), action);
+    }
+
+    /**
+     * Empreinte des articles demandés (avant enrichissement) et de l'adresse.
+     */
+    private static String fingerprint(List<OrderItem> items, String shippingAddress) {
+        StringBuilder request = new StringBuilder(String.valueOf(shippingAddress));
         for (OrderItem item : items) {
+            request.append('|').append(item.getSupplierId()).append(':').append(item.getProductId())
+                    .append(':').append(item.getQuantity());
+        }
+        return UUID.nameUUIDFromBytes(request.toString().getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public StockHold reserveStock(String customerId, List<OrderItem> items, Duration ttl) {
+        log.info("Réservation de stock pour le client: {} avec {} articles", customerId, items.size());
+
+        // 1. Même validation que la commande ; le stock est retiré dès la réservation
+        validateAndEnrich(items);
+        decreaseStock(items);
+
+        // 2. Enregistrer la réservation avec son échéance
+        Duration duration = ttl == null || ttl.isNegative() || ttl.isZero()
+                ? DEFAULT_HOLD_TTL
+                : (ttl.compareTo(MAX_HOLD_TTL) > 0 ? MAX_HOLD_TTL : ttl);
+        Instant now = Instant.now();
+        StockHold hold = StockHold.builder()
+                .id(UUID.randomUUID().toString())
+                .customerId(customerId)
+                .items(items)
+                .createdAt(now)
+                .expiresAt(now.plus(duration))
+                .build();
+        try {
+            stockHolds.save(hold);
+        } catch (RuntimeException e) {
+            restoreStock(items);
+            throw e;
+        }
+        log.info("Réservation {} créée, expire à {}", hold.getId(), hold.getExpiresAt());
+        return hold;
+    }
+
+    @Override
+    public Order placeOrderFromHold(String customerId, String holdId, String shippingAddress) {
+        StockHold hold = takeHold(customerId, holdId);
+
+        // Le stock a été décrémenté à la réservation : on crée seulement la commande
+        Order order = newPendingOrder(customerId, hold.getItems(), shippingAddress);
+        order.confirm();
+        Order savedOrder;
+        try {
+            savedOrder = orderRepository.save(order);
+        } catch (RuntimeException e) {
+            restoreStock(hold.getItems());
+            throw e;
+        }
+        orderMetrics.orderPlaced(savedOrder);
+        log.info("Commande {} créée depuis la réservation {}", savedOrder.getId(), holdId);
+        return savedOrder;
+    }
+
+    @Override
+    public void releaseHold(String customerId, String holdId) {
+        restoreStock(takeHold(customerId, holdId).getItems());
+        log.info("Réservation {} abandonnée", holdId);
+    }
+
+    @Override
+    public int releaseExpiredHolds() {
+        List<StockHold> expired = stockHolds.removeExpired(Instant.now());
+        for (StockHold hold : expired) {
+            try {
+                restoreStock(hold.getItems());
+                log.info("Réservation {} expirée, stock rendu", hold.getId());
+            } catch (RuntimeException e) {
+                // Une base indisponible ne doit pas bloquer les autres restitutions
+                log.error("Écart d'inventaire - stock de la réservation expirée {} non rendu: {}",
+                        hold.getId(), e.getMessage());
+            }
+        }
+        return expired.size();
+    }
+
+    /**
+     * Retire la réservation du client ; une réservation échue mais pas encore
+     * balayée est traitée comme expirée (son stock est rendu ici).
+     */
+    private StockHold takeHold(String customerId, String holdId) {
+        StockHold hold = stockHolds.findById(holdId)
+                .filter(h -> h.getCustomerId().equals(customerId))
+                .flatMap(h -> stockHolds.remove(holdId))
+                .orElseThrow(() -> new StockHoldNotFoundException(holdId));
+        if (hold.isExpired(Instant.now())) {
+            restoreStock(hold.getItems());
+            throw new StockHoldNotFoundException(holdId);
+        }
+        return hold;
+    }
+
+    @Override
+    public List<Order> processOrderBatch(List<Order> orders) {
+        // 1. Regrouper toutes les lignes du lot par fournisseur
+        Map<String, List<OrderItem>> itemsBySupplier = orders.stream()
+                .flatMap(o -> o.getItems().stream())
+                .collect(Collectors.groupingBy(OrderItem::getSupplierId, LinkedHashMap::new, Collectors.toList()));
+
+        // 2. Une seule transaction par fournisseur pour tout le lot. Un fournisseur en échec
+        //    n'a rien décrémenté : ses lignes sont traitées comme refusées, les autres continuent
+        Set<OrderItem> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+        itemsBySupplier.forEach((supplierId, supplierItems) -> {
+            List<ProductRepositoryPort.StockDecrement> decrements = supplierItems.stream()
+                    .map(i -> new ProductRepositoryPort.StockDecrement(i.getProductId(), i.getQuantity()))
+                    .toList();
+            boolean[] applied;
+            try {
+                applied = inventory.tryDecreaseAll(supplierId, decrements);
+            } catch (RuntimeException e) {
+                log.error("Décréments du fournisseur {} en échec, {} lignes refusées: {}",
+                        supplierId, supplierItems.size(), e.getMessage());
+                rejected.addAll(supplierItems);
+                return;
+            }
+            for (int i = 0; i < applied.length; i++) {
+                if (!applied[i]) {
+                    rejected.add(supplierItems.get(i));
+                    orderMetrics.stockRejected(supplierId);
+                }
+            }
+        });
+
+        // 3. Confirmer les commandes entièrement servies, annuler les autres en rendant leur stock.
+        //    À partir d'ici plus aucune exception ne sort : chaque commande est réglée isolément
+        List<Order> processed = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            List<OrderItem> served = order.getItems().stream().filter(i -> !rejected.contains(i)).toList();
+            settle(order, served, served.size() == order.getItems().size()).ifPresent(processed::add);
+        }
+        log.info("Lot de {} commandes traité ({} fournisseurs)", orders.size(), itemsBySupplier.size());
+        return processed;
+    }
+
+    /**
+     * Confirme (ou annule) et enregistre une commande du lot dont les lignes {@code served}
+     * ont été décrémentées. Si l'enregistrement échoue, le stock servi est rendu et la commande
+     * est enregistrée annulée ; si même cela échoue, elle est abandonnée (statut annulé en mémoire).
+     */
+    private Optional<Order> settle(Order order, List<OrderItem> served, boolean complete) {
+        List<OrderItem> toRestore = served;
+        Order saved;
+        try {
+            if (complete) {
+                order.confirm();
+            } else {
+                toRestore = List.of();
+                restoreStock(served);
+                order.cancel();
+                log.warn("Commande {} annulée : stock insuffisant au moment du traitement", order.getId());
+            }
+            saved = orderRepository.save(order);
+        } catch (RuntimeException e) {
+            log.error("Commande {} non enregistrée, stock rendu et commande annulée: {}", order.getId(), e.getMessage());
+            restoreStock(toRestore);
+            order.cancel();
+            try {
+                return Optional.of(orderRepository.save(order));
+            } catch (RuntimeException retry) {
+                orderIntake.abandon(order.getId());
+                log.error("Commande {} abandonnée, annulation non enregistrée: {}", order.getId(), retry.getMessage());
+                return Optional.empty();
+            }
+        }
+        if (complete) {
+            orderMetrics.orderPlaced(saved);
+        }
+        return Optional.of(saved);
+    }
+
+    /**
+     * Vérifie le stock de chaque article et l'enrichit (prix, nom).
+     * Les articles sont groupés par fournisseur : une seule requête par base fournisseur.
+     */
+    private void validateAndEnrich(List<OrderItem> items) {
+        Map<String, List<OrderItem>> itemsBySupplier = items.stream()
+                .collect(Collectors.groupingBy(OrderItem::getSupplierId, LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<String, List<OrderItem>> entry : itemsBySupplier.entrySet()) {
             // Récupérer la base du fournisseur via le routeur (Strategy Pattern)
-            ProductRepositoryPort supplierRepo = supplierRouter.getRepositoryForSupplier(item.getSupplierId());
+            ProductRepositoryPort supplierRepo = supplierRouter.getRepositoryForSupplier(entry.getKey());
+
+            Set<String> productIds = entry.getValue().stream()
+                    .map(OrderItem::getProductId)
+                    .collect(Collectors.toSet());
+            Map<String, Product> products = supplierRepo.findAllByIds(productIds).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+            for (OrderItem item : entry.getValue()) {
+                Product product = products.get(item.getProductId());
+                if (product == null) {
+                    throw new ProductNotFoundException(item.getProductId());
+                }
 
-            Product product = supplierRepo.findById(item.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(item.getProductId()));
+                if (!product.canSell(item.getQuantity())) {
+                    orderMetrics.stockRejected(item.getSupplierId());
+                    throw new IllegalStateException(
+                        "Stock insuffisant pour le produit " + product.getName()
+                        + " (fournisseur: " + item.getSupplierId() + ")"
+                    );
+                }
 
-            if (!product.canSell(item.getQuantity())) {
+                // Enrichir l'item avec le prix actuel
+                item.setUnitPrice(product.getPrice());
+                item.setProductName(product.getName());
+            }
+        }
+    }
+
+    /**
+     * Décrément conditionnel atomique de chaque article dans le stock de son fournisseur
+     * (pas de relecture, pas de survente). En cas d'échec, les articles déjà décrémentés sont rendus.
+     */
+    private void decreaseStock(List<OrderItem> items) {
+        List<OrderItem> decremented = new ArrayList<>();
+        for (OrderItem item : items) {
+            if (!inventory.tryDecrease(item.getSupplierId(), item.getProductId(), item.getQuantity())) {
+                restoreStock(decremented);
+                orderMetrics.stockRejected(item.getSupplierId());
                 throw new IllegalStateException(
-                    "Stock insuffisant pour le produit " + product.getName()
+                    "Stock insuffisant pour le produit " + item.getProductName()
                     + " (fournisseur: " + item.getSupplierId() + ")"
                 );
             }
-
-            // Enrichir l'item avec le prix actuel
-            item.setUnitPrice(product.getPrice());
-            item.setProductName(product.getName());
+            decremented.add(item);
+            log.info("Stock décrémenté - Fournisseur: {}, Produit: {}, Quantité: {}",
+                    item.getSupplierId(), item.getProductId(), item.getQuantity());
         }
+    }
 
-        // 2. Créer la commande dans l'état PENDING
-        Order order = Order.builder()
+    private Order newPendingOrder(String customerId, List<OrderItem> items, String shippingAddress) {
+        return Order.builder()
                 .id(UUID.randomUUID().toString())
                 .customerId(customerId)
                 .items(items)
@@ -69,25 +386,24 @@ public class OrderService implements OrderUseCase {
                 .updatedAt(LocalDateTime.now())
                 .shippingAddress(shippingAddress)
                 .build();
+    }
 
-        // 3. Mettre à jour les stocks dans LA BASE DU FOURNISSEUR CONCERNÉ
-        for (OrderItem item : items) {
-            ProductRepositoryPort supplierRepo = supplierRouter.getRepositoryForSupplier(item.getSupplierId());
-            Product product = supplierRepo.findById(item.getProductId()).get();
-            product.decreaseStock(item.getQuantity());
-            // Mise à jour dans la bonne base de données fournisseur
-            supplierRepo.updateStock(product.getId(), product.getStock());
-            log.info("Stock mis à jour - Fournisseur: {}, Produit: {}, Nouveau stock: {}",
-                    item.getSupplierId(), item.getProductId(), product.getStock());
+    /**
+     * Compensation : les bases fournisseurs étant distinctes, il n'y a pas de
+     * transaction globale. On rend le stock des articles déjà décrémentés.
+     */
+    private void restoreStock(List<OrderItem> decremented) {
+        for (OrderItem item : decremented) {
+            try {
+                inventory.increase(item.getSupplierId(), item.getProductId(), item.getQuantity());
+                log.warn("Stock restauré - Fournisseur: {}, Produit: {}, Quantité: {}",
+                        item.getSupplierId(), item.getProductId(), item.getQuantity());
+            } catch (RuntimeException e) {
+                // On continue avec les autres articles : un échec ne doit pas priver tout le panier de sa compensation
+                log.error("Stock NON restauré, à reprendre - Fournisseur: {}, Produit: {}, Quantité: {}: {}",
+                        item.getSupplierId(), item.getProductId(), item.getQuantity(), e.getMessage());
+            }
         }
-
-        // 4. Confirmer la commande
-        order.confirm();
-
-        // 5. Sauvegarder et retourner
-        Order savedOrder = orderRepository.save(order);
-        log.info("Commande créée avec succès: {}", savedOrder.getId());
-        return savedOrder;
     }
 
     @Override
@@ -95,11 +411,29 @@ public class OrderService implements OrderUseCase {
         return orderRepository.findById(orderId);
     }
 
+    @Override
+    public Optional<Order.OrderStatus> getOrderStatus(String orderId) {
+        Optional<Order.OrderStatus> status = orderRepository.findById(orderId).map(Order::getStatus);
+        if (status.isEmpty() && orderIntake.isPending(orderId)) {
+            return Optional.of(Order.OrderStatus.PENDING);
+        }
+        if (status.isEmpty() && orderIntake.isAbandoned(orderId)) {
+            return Optional.of(Order.OrderStatus.CANCELLED);
+        }
+        return status;
+    }
+
     @Override
     public List<Order> getOrdersByCustomer(String customerId) {
         return orderRepository.findByCustomerId(customerId);
     }
 
+    @Override
+    public CursorPage<OrderSummary> getOrderSummariesByCustomer(String customerId, String cursor, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        return orderRepository.findSummariesByCustomerId(customerId, cursor, pageSize);
+    }
+
     @Override
     public Order cancelOrder(String orderId) {
         Order order = orderRepository.findById(orderId)
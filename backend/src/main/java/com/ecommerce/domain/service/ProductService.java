@@ -1,60 +1,172 @@
 package com.ecommerce.domain.service;
 
 import com.ecommerce.domain.exception.ProductNotFoundException;
+import com.ecommerce.domain.model.CatalogScope;
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.FacetFilter;
+import com.ecommerce.domain.model.FacetedProducts;
+import com.ecommerce.domain.model.FederatedProducts;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
 import com.ecommerce.domain.port.input.ProductUseCase;
-import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.CatalogVersionPort;
+import com.ecommerce.domain.port.output.InventoryPort;
+import com.ecommerce.domain.port.output.ProductFacetPort;
+import com.ecommerce.domain.port.output.ProductSearchPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * SERVICE MÉTIER - Logique de gestion des produits.
  *
  * Implémente ProductUseCase.
  * Aucune dépendance vers JPA, MongoDB ou autre infrastructure.
+ *
+ * Un produit est rangé dans la base de son fournisseur : les lectures (identifiant, listings, catégorie,
+ * pages) passent par le routeur (toutes les bases), les écritures par le dépôt du fournisseur.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductService implements ProductUseCase {
 
-    private final ProductRepositoryPort productRepository;
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    /** Profondeur maximale des résultats classés : au-delà, la recherche doit être affinée. */
+    static final int MAX_SEARCH_RESULTS = 1000;
+
+    private final SupplierRepositoryRouter supplierRouter;
+    private final InventoryPort inventory;
+    private final ProductSearchPort productSearch;
+    private final ProductFacetPort productFacets;
+    private final CatalogVersionPort catalogVersions;
 
     @Override
     public List<Product> getAllProducts() {
-        return productRepository.findAll();
+        return supplierRouter.findAllProducts();
+    }
+
+    @Override
+    public void streamAllProducts(Consumer<Product> action) {
+        supplierRouter.streamAllProducts(action);
+    }
+
+    @Override
+    public FederatedProducts getFederatedCatalog() {
+        FederatedProducts catalog = supplierRouter.findAllAcrossSuppliers();
+        if (catalog.isPartial()) {
+            log.warn("Catalogue fédéré partiel - hors délai: {}, en erreur: {}",
+                    catalog.timedOutSuppliers(), catalog.failedSuppliers());
+        }
+        return catalog;
     }
 
     @Override
     public Optional<Product> getProductById(String productId) {
-        return productRepository.findById(productId);
+        return supplierRouter.findProductById(productId);
     }
 
     @Override
     public List<Product> getProductsBySupplier(String supplierId) {
         log.debug("Recherche des produits du fournisseur: {}", supplierId);
-        return productRepository.findBySupplierId(supplierId);
+        return supplierRouter.getRepositoryForSupplier(supplierId).findBySupplierId(supplierId);
     }
 
     @Override
     public List<Product> getProductsByCategory(String category) {
-        return productRepository.findByCategory(category);
+        return supplierRouter.findProductsByCategory(category);
+    }
+
+    @Override
+    public CursorPage<Product> searchProducts(ProductSearchCriteria criteria) {
+        // Règle métier : taille de page bornée
+        int limit = criteria.getLimit() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(criteria.getLimit(), MAX_PAGE_SIZE);
+        criteria.setLimit(limit);
+        return supplierRouter.findProductPage(criteria);
+    }
+
+    @Override
+    public CursorPage<Product> searchCatalog(String query, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Le texte à rechercher est obligatoire");
+        }
+        int offset = decodeOffsetCursor(cursor, 0);
+        int pageSize = Math.min(limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE), MAX_SEARCH_RESULTS - offset);
+        if (pageSize <= 0) {
+            return new CursorPage<>(List.of(), null);
+        }
+        ProductSearchPort.SearchResult result = productSearch.search(query, offset, pageSize);
+        int next = offset + result.hits().size();
+        String nextCursor = result.hasMore() && next < MAX_SEARCH_RESULTS ? Integer.toString(next) : null;
+        return new CursorPage<>(loadInRankOrder(result.hits()), nextCursor);
+    }
+
+    @Override
+    public FacetedProducts filterCatalog(FacetFilter filter, String cursor, int limit) {
+        int after = decodeOffsetCursor(cursor, -1);
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        ProductFacetPort.FacetResult result = productFacets.filter(filter, after, pageSize);
+        String nextCursor = result.hasMore() ? Integer.toString(result.last()) : null;
+        return new FacetedProducts(loadInRankOrder(result.hits()), nextCursor, result.total(), result.counts());
+    }
+
+    /**
+     * Relit les produits trouvés dans la base de leur fournisseur (un findAllByIds par fournisseur),
+     * dans l'ordre de l'index (pertinence ou rang). Un produit supprimé entre-temps est simplement omis.
+     */
+    private List<Product> loadInRankOrder(List<ProductSearchPort.Hit> hits) {
+        Map<String, List<String>> idsBySupplier = new LinkedHashMap<>();
+        hits.forEach(hit -> idsBySupplier.computeIfAbsent(hit.supplierId(), s -> new ArrayList<>()).add(hit.productId()));
+        Map<String, Product> byId = new HashMap<>();
+        idsBySupplier.forEach((supplierId, ids) -> supplierRouter.getRepositoryForSupplier(supplierId)
+                .findAllByIds(ids).forEach(p -> byId.put(p.getId(), p)));
+        return hits.stream().map(hit -> byId.get(hit.productId())).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Curseur numérique (position dans le résultat ou rang du dernier produit vu).
+     */
+    private static int decodeOffsetCursor(String cursor, int first) {
+        if (cursor == null) {
+            return first;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0) throw new NumberFormatException();
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide: " + cursor);
+        }
+    }
+
+    @Override
+    public long catalogVersion(CatalogScope scope, String key) {
+        return catalogVersions.versionOf(scope, key);
     }
 
     @Override
     public Product createProduct(Product product) {
         log.info("Création d'un produit: {}", product.getName());
-        return productRepository.save(product);
+        // Le produit est créé dans la base de son fournisseur
+        return supplierRouter.getRepositoryForSupplier(product.getSupplierId()).save(product);
     }
 
     @Override
     public Product updateProduct(String productId, Product updatedProduct) {
         log.info("Mise à jour du produit: {}", productId);
-        Product existing = productRepository.findById(productId)
+        Product existing = supplierRouter.findProductById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
 
         existing.setName(updatedProduct.getName());
@@ -64,15 +176,17 @@ public class ProductService implements ProductUseCase {
         existing.setCategory(updatedProduct.getCategory());
         existing.setAvailable(updatedProduct.isAvailable());
 
-        return productRepository.save(existing);
+        Product saved = supplierRouter.getRepositoryForSupplier(existing.getSupplierId()).save(existing);
+        inventory.evict(saved.getSupplierId(), productId);
+        return saved;
     }
 
     @Override
     public void deleteProduct(String productId) {
-        if (!productRepository.existsById(productId)) {
-            throw new ProductNotFoundException(productId);
-        }
-        productRepository.deleteById(productId);
+        Product existing = supplierRouter.findProductById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+        supplierRouter.getRepositoryForSupplier(existing.getSupplierId()).deleteById(productId);
+        inventory.evict(existing.getSupplierId(), productId);
         log.info("Produit supprimé: {}", productId);
     }
 }
@@ -0,0 +1,45 @@
+package com.ecommerce.domain.service;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.input.ReactiveProductUseCase;
+import com.ecommerce.domain.port.output.ReactiveProductQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * SERVICE MÉTIER - Lectures réactives du catalogue.
+ *
+ * Implémente ReactiveProductUseCase.
+ * Aucune dépendance vers R2DBC, MongoDB ou autre infrastructure.
+ * Actif seulement avec product.reactive.enabled=true, comme le serveur réactif.
+ */
+@Service
+@ConditionalOnProperty(name = "product.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveProductService implements ReactiveProductUseCase {
+
+    private final ReactiveProductQueryPort productQueries;
+
+    @Override
+    public Flux<Product> getAllProducts() {
+        return productQueries.findAll();
+    }
+
+    @Override
+    public Mono<Product> getProductById(String productId) {
+        return productQueries.findById(productId);
+    }
+
+    @Override
+    public Flux<Product> getProductsBySupplier(String supplierId) {
+        return productQueries.findBySupplierId(supplierId);
+    }
+
+    @Override
+    public Flux<Product> getProductsByCategory(String category) {
+        return productQueries.findByCategory(category);
+    }
+}
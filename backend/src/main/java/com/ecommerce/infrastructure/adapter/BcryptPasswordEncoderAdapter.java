@@ -1,28 +1,105 @@
 package com.ecommerce.infrastructure.adapter;
 
+import com.ecommerce.domain.exception.PasswordHashingBusyException;
 import com.ecommerce.domain.port.output.PasswordEncoderPort;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * ADAPTATEUR - Encodage BCrypt via Spring Security.
  *
  * Implémente PasswordEncoderPort pour que le domaine ne dépende pas de Spring Security.
+ *
+ * Les calculs BCrypt tournent sur un pool dédié (auth.password.pool-size threads,
+ * par défaut un par cœur) et non sur les threads Tomcat : un afflux de connexions
+ * ne peut occuper que ces threads-là. La file est bornée (auth.password.queue-capacity) ;
+ * pleine, la requête est refusée aussitôt (PasswordHashingBusyException → 503).
+ *
+ * Métrique exposée : auth.password.queue.depth.
  */
 @Component
-@RequiredArgsConstructor
-public class BcryptPasswordEncoderAdapter implements PasswordEncoderPort {
+@Slf4j
+public class BcryptPasswordEncoderAdapter implements PasswordEncoderPort, AutoCloseable {
+
+    /** $2a$10$... : version, coût, sel et hash. */
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
 
     private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final ThreadPoolExecutor hashingPool;
+
+    public BcryptPasswordEncoderAdapter(PasswordEncoder passwordEncoder,
+                                        @Value("${auth.password.bcrypt-strength:10}") int strength,
+                                        @Value("${auth.password.pool-size:0}") int poolSize,
+                                        @Value("${auth.password.queue-capacity:16}") int queueCapacity,
+                                        MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.hashingPool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hashing-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("auth.password.queue.depth", hashingPool.getQueue(), BlockingQueue::size)
+                .description("Calculs BCrypt en attente d'un thread")
+                .register(meterRegistry);
+        log.info("Pool BCrypt: {} threads, file de {}, coût {}", threads, queueCapacity, strength);
+    }
 
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return onHashingPool(() -> passwordEncoder.encode(rawPassword));
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return onHashingPool(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    @Override
+    public void close() {
+        hashingPool.shutdownNow();
+    }
+
+    private <T> T onHashingPool(Callable<T> hashing) {
+        try {
+            return hashingPool.submit(hashing).get();
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        }
     }
 }
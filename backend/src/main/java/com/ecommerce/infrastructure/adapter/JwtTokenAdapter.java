@@ -10,26 +10,35 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * ADAPTATEUR - Génération JWT avec la bibliothèque JJWT.
  *
  * Implémente TokenGeneratorPort pour que le domaine ne dépende pas de JJWT.
+ * La clé HMAC et le parser sont construits une seule fois (ils sont thread-safe).
  */
 @Component
 @Slf4j
 public class JwtTokenAdapter implements TokenGeneratorPort {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final long expirationMs;
+    private final SecretKey key;
+    private final JwtParser parser;
 
-    @Value("${jwt.expiration}")
-    private long expirationMs;
+    public JwtTokenAdapter(@Value("${jwt.secret}") String secret,
+                           @Value("${jwt.expiration}") long expirationMs) {
+        this.expirationMs = expirationMs;
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
 
     @Override
     public String generateToken(User user) {
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         return Jwts.builder()
                 .setSubject(user.getUsername())
                 .claim("roles", user.getRoles())
@@ -47,12 +56,21 @@ public class JwtTokenAdapter implements TokenGeneratorPort {
 
     @Override
     public boolean validateToken(String token) {
+        return verifyAndDecode(token).isPresent();
+    }
+
+    @Override
+    public Optional<TokenClaims> verifyAndDecode(String token) {
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            return Optional.of(new TokenClaims(
+                    claims.getSubject(),
+                    claims.get("userId", String.class),
+                    toRoles(claims.get("roles"))
+            ));
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Token JWT invalide: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -62,7 +80,13 @@ public class JwtTokenAdapter implements TokenGeneratorPort {
     }
 
     private Claims parseClaims(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private Set<String> toRoles(Object roles) {
+        if (roles instanceof Collection<?> collection) {
+            return collection.stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet());
+        }
+        return Set.of();
     }
 }
@@ -0,0 +1,153 @@
+package com.ecommerce.infrastructure.adapter;
+
+import com.ecommerce.domain.model.FederatedProducts;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import com.ecommerce.infrastructure.adapter.facet.InMemoryProductFacetAdapter;
+import com.ecommerce.infrastructure.adapter.search.InMemoryProductSearchAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Construit au démarrage l'index de recherche et l'index de facettes à partir du catalogue
+ * de tous les fournisseurs, en une seule lecture fédérée. Ensuite, IndexingProductRepositoryAdapter
+ * et FacetIndexingProductRepositoryAdapter les tiennent à jour écriture par écriture.
+ *
+ * Un fournisseur hors délai ou en erreur au démarrage est relu seul toutes les
+ * product.index.retry-interval-ms, jusqu'à ce que ses produits soient indexés :
+ * sinon ils resteraient introuvables en recherche et en filtrage jusqu'au redémarrage.
+ *
+ * Ces lectures se font pendant le trafic : un produit supprimé ou dont le stock change entre
+ * la lecture et l'indexation n'est pas indexé depuis la copie lue, mais relu (un produit
+ * supprimé ne revient pas, le stock et la disponibilité installés sont ceux d'après le changement).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductIndexLoader {
+
+    /** Relectures d'un produit modifié à chaque fois entre sa lecture et son indexation, avant de remettre à plus tard. */
+    private static final int MAX_REREADS = 3;
+
+    private final SupplierRepositoryRouter supplierRouter;
+    private final InMemoryProductSearchAdapter searchIndex;
+    private final InMemoryProductFacetAdapter facetIndex;
+    /** Fournisseurs dont les produits ne sont pas encore dans les index. */
+    private final Set<String> missingSuppliers = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long start = System.nanoTime();
+        Load load = startLoad();
+        try {
+            FederatedProducts catalog = supplierRouter.findAllAcrossSuppliers();
+            Set<String> stale = index(catalog.products(), load);
+            log.info("=== Index de recherche et de facettes construits: {} / {} produits en {} ms ===",
+                    searchIndex.size(), facetIndex.size(), (System.nanoTime() - start) / 1_000_000);
+            if (catalog.isPartial()) {
+                missingSuppliers.addAll(catalog.timedOutSuppliers());
+                missingSuppliers.addAll(catalog.failedSuppliers());
+                log.warn("Index partiels - fournisseurs à recharger: {} {}",
+                        catalog.timedOutSuppliers(), catalog.failedSuppliers());
+            }
+            if (!stale.isEmpty()) {
+                missingSuppliers.addAll(stale);
+                log.warn("Produits modifiés pendant le chargement - fournisseurs à recharger: {}", stale);
+            }
+        } finally {
+            endLoad();
+        }
+    }
+
+    /**
+     * Relit les fournisseurs manquants un par un ; ceux qui échouent encore seront retentés au prochain passage.
+     */
+    @Scheduled(initialDelayString = "${product.index.retry-interval-ms:30000}",
+               fixedDelayString = "${product.index.retry-interval-ms:30000}")
+    public void reloadMissing() {
+        for (String supplierId : missingSuppliers) {
+            Load load = startLoad();
+            try {
+                List<Product> products = supplierRouter.getRepositoryForSupplier(supplierId).findBySupplierId(supplierId);
+                if (index(products, load).isEmpty()) {
+                    missingSuppliers.remove(supplierId);
+                    log.info("Index complétés pour le fournisseur {}: {} produits", supplierId, products.size());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Rechargement des index impossible pour le fournisseur {}: {}", supplierId, e.getMessage());
+            } finally {
+                endLoad();
+            }
+        }
+    }
+
+    /**
+     * indexIfAbsent : une écriture indexée entre-temps par les décorateurs est plus récente que cette lecture.
+     * Les produits retirés ou modifiés depuis le début du chargement sont relus, au plus MAX_REREADS fois.
+     *
+     * @param load chargement ouvert avant la lecture des produits
+     * @return fournisseurs dont des produits restent à indexer
+     */
+    private Set<String> index(List<Product> products, Load load) {
+        List<Product> stale = indexUnchanged(products, load);
+        for (int reread = 0; !stale.isEmpty() && reread < MAX_REREADS; reread++) {
+            Load retry = startLoad();
+            try {
+                stale = indexUnchanged(reread(stale), retry);
+            } catch (RuntimeException e) {
+                log.warn("Relecture de {} produits modifiés impossible: {}", stale.size(), e.getMessage());
+                break;
+            } finally {
+                endLoad();
+            }
+        }
+        return stale.stream().map(Product::getSupplierId).collect(Collectors.toSet());
+    }
+
+    private List<Product> indexUnchanged(List<Product> products, Load load) {
+        List<Product> stale = new ArrayList<>();
+        for (Product product : products) {
+            boolean searchable = searchIndex.indexIfAbsent(product, load.search());
+            boolean faceted = facetIndex.indexIfAbsent(product, load.facet());
+            if (!searchable || !faceted) {
+                stale.add(product);
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * Les produits supprimés entre-temps ne sont plus renvoyés par findAllByIds.
+     */
+    private List<Product> reread(List<Product> stale) {
+        Map<String, List<String>> idsBySupplier = stale.stream().collect(Collectors.groupingBy(
+                Product::getSupplierId, Collectors.mapping(Product::getId, Collectors.toList())));
+        List<Product> fresh = new ArrayList<>();
+        idsBySupplier.forEach((supplierId, ids) ->
+                fresh.addAll(supplierRouter.getRepositoryForSupplier(supplierId).findAllByIds(ids)));
+        return fresh;
+    }
+
+    private Load startLoad() {
+        return new Load(searchIndex.startLoad(), facetIndex.startLoad());
+    }
+
+    private void endLoad() {
+        searchIndex.endLoad();
+        facetIndex.endLoad();
+    }
+
+    /** Repères des deux index à l'ouverture d'un chargement. */
+    private record Load(long search, long facet) {}
+}
@@ -0,0 +1,153 @@
+package com.ecommerce.infrastructure.adapter;
+
+import com.ecommerce.domain.port.output.TokenGeneratorPort.TokenClaims;
+import com.ecommerce.domain.port.output.UserRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ADAPTATEUR - Cache en mémoire de l'état des comptes (actif, rôles).
+ *
+ * Utilisé par le mode auth.token-mode=claims : l'authentification est construite
+ * à partir du token, sans accès à la base. Les comptes désactivés et les
+ * changements de rôles sont rafraîchis en tâche de fond, avec un délai maximal
+ * de auth.revocation.refresh-interval-ms.
+ *
+ * Les comptes actifs ou pas encore chargés sont bornés à max-entries, le moins récemment
+ * utilisé sorti en premier. Les comptes révoqués sont gardés à part et jamais évincés :
+ * sinon des connexions avec de nombreux comptes suffiraient à faire sortir un compte
+ * révoqué, dont le token serait de nouveau accepté jusqu'au rafraîchissement suivant.
+ */
+@Component
+@Slf4j
+public class UserRevocationCache {
+
+    /** Utilisateur vu mais pas encore chargé : on se fie au token. */
+    private static final UserStatus PENDING = new UserStatus(true, null);
+    /** Utilisateur supprimé de la source de données. */
+    private static final UserStatus REVOKED = new UserStatus(false, Set.of());
+
+    private final UserRepositoryPort userRepository;
+    /** Comptes actifs ou en attente, en ordre d'accès (LRU), sous lock (ReentrantLock : pas d'épinglage des threads virtuels). */
+    private final Map<String, UserStatus> statuses;
+    private final Lock lock = new ReentrantLock();
+    /** Comptes désactivés ou supprimés : non bornés, leur nombre est celui des comptes révoqués vus. */
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+
+    public UserRevocationCache(UserRepositoryPort userRepository,
+                               @Value("${auth.revocation.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.statuses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserStatus> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Rôles effectifs pour un token vérifié, sans accès à la base.
+     *
+     * @return vide si le compte est désactivé ou supprimé
+     */
+    public Optional<Set<String>> resolveRoles(TokenClaims claims) {
+        String username = claims.username();
+        if (revoked.contains(username)) {
+            return Optional.empty();
+        }
+        UserStatus status;
+        lock.lock();
+        try {
+            status = statuses.putIfAbsent(username, PENDING);
+        } finally {
+            lock.unlock();
+        }
+        if (status == null || status.roles() == null) {
+            return Optional.of(claims.roles());
+        }
+        return Optional.of(status.roles());
+    }
+
+    /**
+     * Relit l'état de chaque utilisateur suivi depuis le UserRepositoryPort actif.
+     */
+    @Scheduled(initialDelayString = "${auth.revocation.refresh-interval-ms:30000}",
+               fixedDelayString = "${auth.revocation.refresh-interval-ms:30000}")
+    public void refresh() {
+        Set<String> usernames = new HashSet<>(revoked);
+        lock.lock();
+        try {
+            usernames.addAll(statuses.keySet());
+        } finally {
+            lock.unlock();
+        }
+        if (usernames.isEmpty()) {
+            return;
+        }
+        Map<String, UserStatus> loaded = new HashMap<>();
+        for (String username : usernames) {
+            try {
+                loaded.put(username, userRepository.findByUsername(username)
+                        .map(u -> new UserStatus(u.isActive(), u.getRoles() != null ? Set.copyOf(u.getRoles()) : Set.of()))
+                        .orElse(REVOKED));
+            } catch (RuntimeException e) {
+                // On garde l'état précédent : une panne de la base ne doit pas bloquer les requêtes
+                log.warn("Rafraîchissement impossible pour {}: {}", username, e.getMessage());
+            }
+        }
+        apply(loaded);
+        log.debug("Cache de révocation rafraîchi: {} utilisateurs suivis, {} révoqués", usernames.size(), revoked.size());
+    }
+
+    /**
+     * Les révocations passent dans revoked avant de quitter la map : jamais de fenêtre où le compte
+     * serait inconnu. Les autres états sont mis à jour via les entrées, sans compter comme un accès
+     * (l'ordre LRU reste celui des requêtes) ; un compte évincé entre-temps n'est pas réintroduit.
+     */
+    private void apply(Map<String, UserStatus> loaded) {
+        List<String> reactivated = new ArrayList<>();
+        loaded.forEach((username, status) -> {
+            if (!status.active()) {
+                revoked.add(username);
+            } else if (revoked.remove(username)) {
+                reactivated.add(username);
+            }
+        });
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, UserStatus>> entries = statuses.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, UserStatus> entry = entries.next();
+                UserStatus status = loaded.get(entry.getKey());
+                if (status == null) {
+                    continue;
+                }
+                if (status.active()) {
+                    entry.setValue(status);
+                } else {
+                    entries.remove();
+                }
+            }
+            reactivated.forEach(username -> statuses.put(username, loaded.get(username)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record UserStatus(boolean active, Set<String> roles) {}
+}
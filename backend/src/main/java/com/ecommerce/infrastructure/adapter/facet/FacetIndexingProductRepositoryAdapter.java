@@ -0,0 +1,111 @@
+package com.ecommerce.infrastructure.adapter.facet;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTATEUR - Décorateur de ProductRepositoryPort qui tient l'index de facettes à jour.
+ *
+ * Pattern DECORATOR, comme l'index de recherche : save met à jour les facettes du produit
+ * enregistré, deleteById le retire, APRÈS l'écriture en base. Contrairement au texte, la
+ * disponibilité dépend du stock : les opérations de stock réussies sont reportées aussi.
+ */
+@RequiredArgsConstructor
+public class FacetIndexingProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final InMemoryProductFacetAdapter index;
+
+    @Override
+    public Optional<Product> findById(String productId) {
+        return delegate.findById(productId);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        delegate.streamAll(action);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<String> productIds) {
+        return delegate.findAllByIds(productIds);
+    }
+
+    @Override
+    public List<Product> findBySupplierId(String supplierId) {
+        return delegate.findBySupplierId(supplierId);
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public CursorPage<Product> findPage(ProductSearchCriteria criteria) {
+        return delegate.findPage(criteria);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        index.index(saved);
+        return saved;
+    }
+
+    @Override
+    public void deleteById(String productId) {
+        delegate.deleteById(productId);
+        index.remove(productId);
+    }
+
+    @Override
+    public boolean existsById(String productId) {
+        return delegate.existsById(productId);
+    }
+
+    @Override
+    public void updateStock(String productId, int newStock) {
+        delegate.updateStock(productId, newStock);
+        index.stockSet(productId, newStock);
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(String productId, int quantity) {
+        boolean decreased = delegate.decreaseStockIfAvailable(productId, quantity);
+        if (decreased) {
+            index.stockDecreased(productId, quantity);
+        }
+        return decreased;
+    }
+
+    @Override
+    public boolean[] decreaseStockBatch(List<StockDecrement> decrements) {
+        boolean[] applied = delegate.decreaseStockBatch(decrements);
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                index.stockDecreased(decrements.get(i).productId(), decrements.get(i).quantity());
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public void increaseStock(String productId, int quantity) {
+        delegate.increaseStock(productId, quantity);
+        index.stockIncreased(productId, quantity);
+    }
+}
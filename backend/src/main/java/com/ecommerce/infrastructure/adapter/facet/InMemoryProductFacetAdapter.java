@@ -0,0 +1,373 @@
+package com.ecommerce.infrastructure.adapter.facet;
+
+import com.ecommerce.domain.model.Facet;
+import com.ecommerce.domain.model.FacetFilter;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductFacetPort;
+import com.ecommerce.domain.port.output.ProductSearchPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * ADAPTATEUR - Index de facettes du catalogue, en bitmaps compressés (Roaring) tenus en mémoire.
+ *
+ * Chaque produit reçoit un rang dense et définitif (ordre d'entrée au catalogue). Chaque
+ * valeur de facette ("category" = "Audio", "price" = "5000-10000", ...) pointe vers le bitmap
+ * des rangs qui la portent. Un filtre ET / OU se résout par intersections et unions de
+ * bitmaps ; les compteurs de facettes se font sur le bitmap résultat, à partir des ids de
+ * valeurs rangés par rang de produit. Aucun produit n'est lu en base avant la page renvoyée.
+ *
+ * Mise à jour incrémentale par FacetIndexingProductRepositoryAdapter. Un produit modifié
+ * garde son rang et change seulement de bitmaps. Le stock est suivi ici pour connaître la
+ * disponibilité après un décrément, sans relire la base. Métrique exposée :
+ * products.facets.indexed.
+ *
+ * Pendant un chargement (ProductIndexLoader), les produits retirés ou dont le stock change sont
+ * notés, même absents de l'index : leur copie lue avant ce changement n'est pas installée.
+ */
+@Component
+public class InMemoryProductFacetAdapter implements ProductFacetPort {
+
+    private static final Facet[] FACETS = Facet.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Facet, Map<String, FacetValue>> values = new EnumMap<>(Facet.class);
+    private final Map<String, Integer> ordinalByProduct = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final ArrayDeque<Integer> freeValueIds = new ArrayDeque<>();
+    private FacetValue[] valueById = new FacetValue[64];
+    private int valueIds;
+    private String[] productIds = new String[1024];
+    private String[] supplierIds = new String[1024];
+    /** Id de la valeur de chaque facette du produit, -1 si absente : FACETS.length cases par rang. */
+    private int[] valueIdsByOrdinal = new int[1024 * FACETS.length];
+    private int[] stocks = new int[1024];
+    private int nextOrdinal;
+    /** Numéro du dernier retrait ou changement de stock de chaque produit, tant qu'un chargement est ouvert. */
+    private final Map<String, Long> changedDuringLoads = new HashMap<>();
+    private long changes;
+    private int openLoads;
+
+    public InMemoryProductFacetAdapter(MeterRegistry meterRegistry) {
+        for (Facet facet : FACETS) {
+            values.put(facet, new HashMap<>());
+        }
+        Gauge.builder("products.facets.indexed", this, InMemoryProductFacetAdapter::size)
+                .description("Produits présents dans l'index de facettes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indexe un produit, ou met à jour ses facettes s'il l'était déjà.
+     */
+    public void index(Product product) {
+        write(product);
+    }
+
+    /**
+     * Ouvre un chargement : à appeler avant de lire les produits à passer à indexIfAbsent.
+     *
+     * @return repère à passer à indexIfAbsent
+     */
+    public long startLoad() {
+        lock.writeLock().lock();
+        try {
+            openLoads++;
+            return changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void endLoad() {
+        lock.writeLock().lock();
+        try {
+            if (--openLoads == 0) {
+                changedDuringLoads.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexe un produit lu pendant un chargement, sauf s'il l'est déjà : une écriture concurrente,
+     * plus récente, ne doit pas être écrasée par cette copie.
+     *
+     * @param since repère rendu par startLoad avant la lecture du produit
+     * @return false si le produit a été retiré ou son stock modifié depuis : la copie est périmée, à relire
+     */
+    public boolean indexIfAbsent(Product product, long since) {
+        lock.writeLock().lock();
+        try {
+            if (ordinalByProduct.containsKey(product.getId())) {
+                return true;
+            }
+            Long changed = changedDuringLoads.get(product.getId());
+            if (changed != null && changed > since) {
+                return false;
+            }
+            write(product);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            noteChange(productId);
+            Integer ordinal = ordinalByProduct.remove(productId);
+            if (ordinal != null) {
+                for (Facet facet : FACETS) {
+                    leave(facet, ordinal);
+                }
+                live.remove(ordinal);
+                productIds[ordinal] = null;
+                supplierIds[ordinal] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stock remplacé sans toucher à la disponibilité, comme updateStock en base.
+     */
+    public void stockSet(String productId, int newStock) {
+        update(productId, ordinal -> stocks[ordinal] = newStock);
+    }
+
+    /**
+     * Décrément réussi : le produit devient indisponible quand son stock tombe à zéro.
+     */
+    public void stockDecreased(String productId, int quantity) {
+        update(productId, ordinal -> {
+            stocks[ordinal] -= quantity;
+            if (stocks[ordinal] <= 0) {
+                move(Facet.AVAILABLE, ordinal, Boolean.FALSE.toString());
+            }
+        });
+    }
+
+    /**
+     * Réincrément (annulation, expiration de réservation) : même règle que increaseStock en base,
+     * seul un produit épuisé redevient disponible.
+     */
+    public void stockIncreased(String productId, int quantity) {
+        update(productId, ordinal -> {
+            boolean soldOut = stocks[ordinal] <= 0;
+            stocks[ordinal] += quantity;
+            if (soldOut) {
+                move(Facet.AVAILABLE, ordinal, Boolean.TRUE.toString());
+            }
+        });
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalByProduct.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public FacetResult filter(FacetFilter filter, int after, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = filter == null ? live : evaluate(filter);
+            List<ProductSearchPort.Hit> hits = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+            int last = after;
+            PeekableIntIterator ordinals = result.getIntIterator();
+            ordinals.advanceIfNeeded(after + 1);
+            while (hits.size() < limit && ordinals.hasNext()) {
+                last = ordinals.next();
+                hits.add(new ProductSearchPort.Hit(productIds[last], supplierIds[last]));
+            }
+            return new FacetResult(hits, last, ordinals.hasNext(), result.getCardinality(), counts(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap evaluate(FacetFilter filter) {
+        if (filter instanceof FacetFilter.Term term) {
+            FacetValue value = values.get(term.facet()).get(term.value());
+            return value == null ? new RoaringBitmap() : value.products;
+        }
+        if (filter instanceof FacetFilter.AllOf allOf) {
+            if (allOf.filters().isEmpty()) {
+                return live;
+            }
+            return FastAggregation.and(allOf.filters().stream().map(this::evaluate).toArray(RoaringBitmap[]::new));
+        }
+        FacetFilter.AnyOf anyOf = (FacetFilter.AnyOf) filter;
+        return FastAggregation.or(anyOf.filters().stream().map(this::evaluate).toArray(RoaringBitmap[]::new));
+    }
+
+    /**
+     * Compteurs par facette, valeurs triées par nombre de produits décroissant.
+     *
+     * Les produits du résultat sont parcourus un à un et comptés sur les valeurs qu'ils portent :
+     * coût proportionnel au résultat, quel que soit le nombre de valeurs (intersecter le résultat
+     * avec chacun des bitmaps coûte des dizaines de fois plus cher dès qu'il y a des centaines de
+     * catégories). Un résultat qui couvre plus de la moitié du catalogue est compté par son
+     * complément : compteur = |valeur| - compteur sur le complément.
+     */
+    private Map<String, Map<String, Integer>> counts(RoaringBitmap result) {
+        boolean complement = result.getCardinality() > live.getCardinality() / 2;
+        int[] tally = new int[valueIds];
+        int[] ids = valueIdsByOrdinal;
+        RoaringBitmap walked = complement ? RoaringBitmap.andNot(live, result) : result;
+        walked.forEach((int ordinal) -> {
+            for (int slot = ordinal * FACETS.length, end = slot + FACETS.length; slot < end; slot++) {
+                if (ids[slot] >= 0) {
+                    tally[ids[slot]]++;
+                }
+            }
+        });
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        for (Facet facet : FACETS) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+            for (FacetValue value : values.get(facet).values()) {
+                int count = complement ? value.products.getCardinality() - tally[value.id] : tally[value.id];
+                if (count > 0) {
+                    entries.add(Map.entry(value.value, count));
+                }
+            }
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+            Map<String, Integer> byValue = new LinkedHashMap<>();
+            entries.forEach(entry -> byValue.put(entry.getKey(), entry.getValue()));
+            counts.put(facet.key(), byValue);
+        }
+        return counts;
+    }
+
+    private void write(Product product) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinalByProduct.get(product.getId());
+            int ordinal = existing != null ? existing : newOrdinal(product.getId());
+            supplierIds[ordinal] = product.getSupplierId();
+            stocks[ordinal] = product.getStock();
+            for (Facet facet : FACETS) {
+                move(facet, ordinal, facet.valueOf(product));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(String productId, IntConsumer change) {
+        lock.writeLock().lock();
+        try {
+            noteChange(productId);
+            Integer ordinal = ordinalByProduct.get(productId);
+            if (ordinal != null) {
+                change.accept(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Sous le verrou d'écriture. */
+    private void noteChange(String productId) {
+        if (openLoads > 0) {
+            changedDuringLoads.put(productId, ++changes);
+        }
+    }
+
+    private int newOrdinal(String productId) {
+        int ordinal = nextOrdinal++;
+        if (ordinal == productIds.length) {
+            int capacity = productIds.length * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            supplierIds = Arrays.copyOf(supplierIds, capacity);
+            valueIdsByOrdinal = Arrays.copyOf(valueIdsByOrdinal, capacity * FACETS.length);
+            stocks = Arrays.copyOf(stocks, capacity);
+        }
+        productIds[ordinal] = productId;
+        Arrays.fill(valueIdsByOrdinal, ordinal * FACETS.length, (ordinal + 1) * FACETS.length, -1);
+        ordinalByProduct.put(productId, ordinal);
+        live.add(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Fait passer le produit dans le bitmap de sa nouvelle valeur (aucun si null).
+     */
+    private void move(Facet facet, int ordinal, String value) {
+        FacetValue current = current(facet, ordinal);
+        if (current != null && current.value.equals(value)) {
+            return;
+        }
+        leave(facet, ordinal);
+        if (value != null) {
+            FacetValue target = values.get(facet).computeIfAbsent(value, this::newValue);
+            target.products.add(ordinal);
+            valueIdsByOrdinal[ordinal * FACETS.length + facet.ordinal()] = target.id;
+        }
+    }
+
+    private void leave(Facet facet, int ordinal) {
+        FacetValue current = current(facet, ordinal);
+        if (current == null) {
+            return;
+        }
+        current.products.remove(ordinal);
+        if (current.products.isEmpty()) {
+            values.get(facet).remove(current.value);
+            valueById[current.id] = null;
+            freeValueIds.push(current.id);
+        }
+        valueIdsByOrdinal[ordinal * FACETS.length + facet.ordinal()] = -1;
+    }
+
+    private FacetValue current(Facet facet, int ordinal) {
+        int id = valueIdsByOrdinal[ordinal * FACETS.length + facet.ordinal()];
+        return id < 0 ? null : valueById[id];
+    }
+
+    private FacetValue newValue(String value) {
+        int id = freeValueIds.isEmpty() ? valueIds++ : freeValueIds.pop();
+        if (id == valueById.length) {
+            valueById = Arrays.copyOf(valueById, id * 2);
+        }
+        return valueById[id] = new FacetValue(id, value);
+    }
+
+    /**
+     * Une valeur de facette et le bitmap des rangs des produits qui la portent.
+     * L'id, dense, indexe les compteurs d'un parcours produit par produit.
+     */
+    private static final class FacetValue {
+        final int id;
+        final String value;
+        final RoaringBitmap products = new RoaringBitmap();
+
+        FacetValue(int id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ecommerce.infrastructure.adapter.hold;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Roue temporelle hiérarchique (Varghese &amp; Lauck) : échéances planifiées en O(1)
+ * et avancées par ticks, sans minuteur par élément.
+ *
+ * Le niveau 0 a {@code 2^slotBits} cases d'un tick ; chaque niveau suivant couvre
+ * une case entière du niveau inférieur par case. Quand le niveau 0 boucle, la case
+ * courante du niveau supérieur est redescendue (cascade). Une échéance au-delà de
+ * la portée de la roue est rangée au dernier niveau et reclassée à chaque passage.
+ *
+ * Un élément n'expire jamais avant son échéance, au plus un tick après.
+ * Pas de suppression : l'appelant ignore à l'expiration les éléments déjà traités.
+ * Méthodes synchronisées : ajouts concurrents, avance par un seul thread.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int slotBits;
+    private final int slotMask;
+    private final ArrayDeque<Timeout<T>>[][] levels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int slotBits, int levelCount, long startMs) {
+        if (tickMs <= 0 || slotBits <= 0 || levelCount <= 0 || (long) slotBits * levelCount >= 63) {
+            throw new IllegalArgumentException("Géométrie de roue invalide");
+        }
+        this.tickMs = tickMs;
+        this.slotBits = slotBits;
+        this.slotMask = (1 << slotBits) - 1;
+        this.levels = new ArrayDeque[levelCount][1 << slotBits];
+        for (ArrayDeque<Timeout<T>>[] level : levels) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new ArrayDeque<>();
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Planifie l'expiration de {@code item} à {@code deadlineMs}.
+     * Une échéance déjà passée expire au prochain tick.
+     */
+    public synchronized void schedule(T item, long deadlineMs) {
+        // Arrondi au tick supérieur : jamais d'expiration anticipée
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMs + tickMs - 1, tickMs), currentTick + 1);
+        place(new Timeout<>(item, deadlineTick));
+        size++;
+    }
+
+    /**
+     * Avance la roue jusqu'à {@code nowMs} et passe à {@code onExpired} chaque élément échu.
+     */
+    public synchronized void advance(long nowMs, Consumer<T> onExpired) {
+        long targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            ArrayDeque<Timeout<T>> bucket = levels[0][(int) (currentTick & slotMask)];
+            Timeout<T> timeout;
+            while ((timeout = bucket.poll()) != null) {
+                size--;
+                onExpired.accept(timeout.item);
+            }
+        }
+    }
+
+    /**
+     * Nombre d'éléments planifiés et pas encore expirés.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Au début de chaque période d'un niveau, redescend les éléments de sa case courante.
+     */
+    private void cascade() {
+        for (int level = 1; level < levels.length; level++) {
+            int shift = slotBits * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            ArrayDeque<Timeout<T>> bucket = levels[level][(int) ((currentTick >>> shift) & slotMask)];
+            int count = bucket.size();
+            for (int i = 0; i < count; i++) {
+                place(bucket.poll());
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level = 0;
+        while (level < levels.length - 1 && delta >= (1L << (slotBits * (level + 1)))) {
+            level++;
+        }
+        if (delta <= 0) {
+            // Échéance atteinte pendant une cascade : case courante du niveau 0, vidée juste après
+            levels[0][(int) (currentTick & slotMask)].add(timeout);
+            return;
+        }
+        levels[level][(int) ((timeout.deadlineTick >>> (slotBits * level)) & slotMask)].add(timeout);
+    }
+
+    private record Timeout<T>(T item, long deadlineTick) {}
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.infrastructure.adapter.hold;
+
+import com.ecommerce.domain.model.StockHold;
+import com.ecommerce.domain.port.output.StockHoldPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ADAPTATEUR - Réservations de stock tenues en mémoire.
+ *
+ * Les échéances sont rangées dans une roue temporelle hiérarchique avancée tous les
+ * order.hold.tick-ms par StockHoldExpiryScheduler : planifier une réservation coûte
+ * O(1) quel que soit leur nombre, sans minuteur par réservation.
+ * Une réservation confirmée ou abandonnée reste dans la roue et est ignorée à son échéance.
+ *
+ * Les réservations sont perdues au redémarrage (leur stock reste alors décrémenté).
+ * Métrique exposée : orders.holds.active.
+ */
+@Component
+public class InMemoryStockHoldAdapter implements StockHoldPort {
+
+    private static final int SLOT_BITS = 6;  // 64 cases par niveau
+    private static final int LEVELS = 4;     // portée : 64^4 ticks
+
+    private final Map<String, StockHold> holds = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel<String> expirations;
+
+    public InMemoryStockHoldAdapter(@Value("${order.hold.tick-ms:100}") long tickMs, MeterRegistry meterRegistry) {
+        this.expirations = new HierarchicalTimingWheel<>(tickMs, SLOT_BITS, LEVELS, System.currentTimeMillis());
+        Gauge.builder("orders.holds.active", holds, Map::size)
+                .description("Réservations de stock en cours")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(StockHold hold) {
+        holds.put(hold.getId(), hold);
+        expirations.schedule(hold.getId(), hold.getExpiresAt().toEpochMilli());
+    }
+
+    @Override
+    public Optional<StockHold> findById(String holdId) {
+        return Optional.ofNullable(holds.get(holdId));
+    }
+
+    @Override
+    public Optional<StockHold> remove(String holdId) {
+        return Optional.ofNullable(holds.remove(holdId));
+    }
+
+    @Override
+    public List<StockHold> removeExpired(Instant now) {
+        List<StockHold> expired = new ArrayList<>();
+        expirations.advance(now.toEpochMilli(), holdId -> {
+            StockHold hold = holds.get(holdId);
+            if (hold != null && hold.isExpired(now) && holds.remove(holdId, hold)) {
+                expired.add(hold);
+            }
+        });
+        return expired;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.infrastructure.adapter.hold;
+
+import com.ecommerce.domain.port.input.OrderUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ADAPTATEUR - Horloge unique des réservations de stock.
+ *
+ * Avance la roue des échéances d'un tick (order.hold.tick-ms) et délègue
+ * la restitution du stock des réservations expirées au cas d'usage.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockHoldExpiryScheduler {
+
+    private final OrderUseCase orderUseCase;
+
+    @Scheduled(fixedDelayString = "${order.hold.tick-ms:100}")
+    public void tick() {
+        int released = orderUseCase.releaseExpiredHolds();
+        if (released > 0) {
+            log.debug("{} réservations expirées libérées", released);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.infrastructure.adapter.idempotency;
+
+import com.ecommerce.domain.exception.IdempotencyKeyInProgressException;
+import com.ecommerce.domain.exception.IdempotencyKeyMismatchException;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.port.output.IdempotencyPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * ADAPTATEUR - Clés d'idempotence tenues en mémoire (order.idempotency.store=memory).
+ *
+ * Caffeine borné en taille (order.idempotency.max-keys), chaque clé expirant
+ * order.idempotency.ttl-seconds après sa première requête. Une clé en cours porte
+ * un CompletableFuture : les doublons concurrents l'attendent au plus
+ * order.idempotency.wait-timeout-ms puis reçoivent le même résultat (ou la même erreur).
+ *
+ * Les clés sont perdues au redémarrage ; voir JpaIdempotencyAdapter pour les conserver.
+ */
+@Slf4j
+public class InMemoryIdempotencyAdapter implements IdempotencyPort {
+
+    private final Cache<String, Execution> executions;
+    private final Duration waitTimeout;
+
+    public InMemoryIdempotencyAdapter(long maxKeys, Duration ttl, Duration waitTimeout) {
+        this.executions = Caffeine.newBuilder().maximumSize(maxKeys).expireAfterWrite(ttl).build();
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    public Order executeOnce(String key, String fingerprint, Supplier<Order> action) {
+        Execution execution = new Execution(fingerprint);
+        Execution existing = executions.asMap().putIfAbsent(key, execution);
+        if (existing == null) {
+            return run(key, execution, action);
+        }
+        if (!existing.fingerprint.equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        log.info("Requête rejouée avec la clé d'idempotence {}", key);
+        return await(key, existing);
+    }
+
+    /**
+     * Résultat conservé hors mémoire pour cette clé (aucun par défaut).
+     *
+     * @throws IdempotencyKeyMismatchException si la clé conservée a servi à une autre requête
+     */
+    protected Optional<Order> findCompleted(String key, String fingerprint) {
+        return Optional.empty();
+    }
+
+    /**
+     * Conserve hors mémoire le résultat d'une clé (rien par défaut).
+     */
+    protected void saveCompleted(String key, String fingerprint, Order order) {
+    }
+
+    private Order run(String key, Execution execution, Supplier<Order> action) {
+        Order order;
+        try {
+            Optional<Order> completed = findCompleted(key, execution.fingerprint);
+            if (completed.isPresent()) {
+                order = completed.get();
+            } else {
+                order = action.get();
+                persist(key, execution.fingerprint, order);
+            }
+        } catch (RuntimeException e) {
+            // La clé est libérée : une nouvelle tentative du client sera exécutée
+            executions.asMap().remove(key, execution);
+            execution.result.completeExceptionally(e);
+            throw e;
+        }
+        execution.result.complete(order);
+        return order;
+    }
+
+    /**
+     * La commande est passée : un échec de sauvegarde de la clé ne doit pas la faire échouer.
+     */
+    private void persist(String key, String fingerprint, Order order) {
+        try {
+            saveCompleted(key, fingerprint, order);
+        } catch (RuntimeException e) {
+            log.error("Clé d'idempotence {} non conservée: {}", key, e.getMessage());
+        }
+    }
+
+    private Order await(String key, Execution execution) {
+        try {
+            return execution.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        }
+    }
+
+    /**
+     * Première exécution d'une clé : empreinte de la requête et résultat à venir.
+     */
+    private static final class Execution {
+        private final String fingerprint;
+        private final CompletableFuture<Order> result = new CompletableFuture<>();
+
+        private Execution(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
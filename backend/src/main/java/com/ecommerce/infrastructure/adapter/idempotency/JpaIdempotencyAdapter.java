@@ -0,0 +1,69 @@
+package com.ecommerce.infrastructure.adapter.idempotency;
+
+import com.ecommerce.domain.exception.IdempotencyKeyMismatchException;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.port.output.OrderRepositoryPort;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.IdempotencyKeyJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.IdempotencyKeyJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ADAPTATEUR - Clés d'idempotence conservées en base (order.idempotency.store=database).
+ *
+ * La mémoire reste le premier niveau (attente des doublons concurrents) ; chaque clé
+ * terminée est aussi écrite dans la table idempotency_keys avec l'id de sa commande.
+ * Après un redémarrage ou une éviction, un doublon retrouve ainsi la commande déjà créée.
+ * Les clés expirées sont purgées toutes les order.idempotency.purge-interval-ms.
+ */
+@Slf4j
+public class JpaIdempotencyAdapter extends InMemoryIdempotencyAdapter {
+
+    private final IdempotencyKeyJpaRepository keyRepository;
+    private final OrderRepositoryPort orderRepository;
+    private final Duration ttl;
+
+    public JpaIdempotencyAdapter(long maxKeys, Duration ttl, Duration waitTimeout,
+                                 IdempotencyKeyJpaRepository keyRepository, OrderRepositoryPort orderRepository) {
+        super(maxKeys, ttl, waitTimeout);
+        this.keyRepository = keyRepository;
+        this.orderRepository = orderRepository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected Optional<Order> findCompleted(String key, String fingerprint) {
+        Optional<IdempotencyKeyJpaEntity> record = keyRepository.findById(key)
+                .filter(r -> r.getCreatedAt().isAfter(LocalDateTime.now().minus(ttl)));
+        if (record.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!record.get().getFingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        // Commande asynchrone perdue avec la file (arrêt brutal) : elle sera repassée
+        return orderRepository.findById(record.get().getOrderId());
+    }
+
+    @Override
+    protected void saveCompleted(String key, String fingerprint, Order order) {
+        keyRepository.save(IdempotencyKeyJpaEntity.builder()
+                .key(key)
+                .fingerprint(fingerprint)
+                .orderId(order.getId())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int purged = keyRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.info("{} clés d'idempotence expirées purgées", purged);
+        }
+    }
+}
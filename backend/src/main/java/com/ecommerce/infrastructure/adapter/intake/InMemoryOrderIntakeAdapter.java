@@ -0,0 +1,99 @@
+package com.ecommerce.infrastructure.adapter.intake;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.port.output.OrderIntakePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ADAPTATEUR - File en mémoire bornée des commandes asynchrones.
+ *
+ * Les commandes y restent jusqu'à leur traitement par OrderIntakeWorker.
+ * Métrique exposée : orders.intake.queue.depth.
+ */
+@Component
+@Slf4j
+public class InMemoryOrderIntakeAdapter implements OrderIntakePort {
+
+    private final BlockingQueue<Order> queue;
+
+    /** Commandes acceptées non encore traitées, avec leur instant d'acceptation (nanoTime). */
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    /** Commandes abandonnées (non enregistrées), gardées 24 h pour leur statut, au plus capacity. */
+    private final Cache<String, Boolean> abandoned;
+
+    public InMemoryOrderIntakeAdapter(@Value("${order.intake.queue-capacity:10000}") int capacity,
+                                      MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.abandoned = Caffeine.newBuilder().maximumSize(capacity).expireAfterWrite(Duration.ofHours(24)).build();
+        Gauge.builder("orders.intake.queue.depth", queue, BlockingQueue::size)
+                .description("Commandes en attente de traitement")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean enqueue(Order order) {
+        pending.put(order.getId(), System.nanoTime());
+        if (!queue.offer(order)) {
+            pending.remove(order.getId());
+            log.warn("File des commandes pleine ({} en attente), commande refusée", queue.size());
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isPending(String orderId) {
+        return pending.containsKey(orderId);
+    }
+
+    @Override
+    public void abandon(String orderId) {
+        abandoned.put(orderId, Boolean.TRUE);
+    }
+
+    @Override
+    public boolean isAbandoned(String orderId) {
+        return abandoned.getIfPresent(orderId) != null;
+    }
+
+    /**
+     * Attend au plus {@code linger} la première commande, puis prend sans attendre
+     * les suivantes dans la limite de {@code maxBatchSize}.
+     */
+    List<Order> takeBatch(int maxBatchSize, long lingerMs) throws InterruptedException {
+        List<Order> batch = new ArrayList<>(maxBatchSize);
+        Order first = queue.poll(lingerMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        queue.drainTo(batch, maxBatchSize - 1);
+        return batch;
+    }
+
+    /**
+     * Retire la commande des commandes en attente.
+     *
+     * @return le délai entre l'acceptation et la fin du traitement, en nanosecondes
+     */
+    long complete(String orderId) {
+        Long acceptedAt = pending.remove(orderId);
+        return acceptedAt == null ? 0 : System.nanoTime() - acceptedAt;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ecommerce.infrastructure.adapter.intake;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.port.input.OrderUseCase;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ADAPTATEUR - Pipeline de traitement des commandes asynchrones.
+ *
+ * Vide la file par micro-lots (au plus batch-size commandes, ou ce qui est arrivé
+ * pendant linger-ms) et délègue chaque lot au cas d'usage OrderUseCase.processOrderBatch.
+ * Actif uniquement si order.intake.async=true.
+ *
+ * Métriques : orders.intake.batch.size, orders.intake.latency (acceptation → traitement).
+ */
+@Component
+@ConditionalOnProperty(name = "order.intake.async", havingValue = "true")
+@Slf4j
+public class OrderIntakeWorker implements SmartLifecycle {
+
+    private final InMemoryOrderIntakeAdapter intake;
+    private final OrderUseCase orderUseCase;
+    private final int batchSize;
+    private final long lingerMs;
+    private final DistributionSummary batchSizes;
+    private final Timer latency;
+
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    public OrderIntakeWorker(InMemoryOrderIntakeAdapter intake, OrderUseCase orderUseCase, MeterRegistry meterRegistry,
+                             @Value("${order.intake.batch-size:50}") int batchSize,
+                             @Value("${order.intake.linger-ms:20}") long lingerMs) {
+        this.intake = intake;
+        this.orderUseCase = orderUseCase;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.batchSizes = DistributionSummary.builder("orders.intake.batch.size")
+                .description("Nombre de commandes par lot traité")
+                .register(meterRegistry);
+        this.latency = Timer.builder("orders.intake.latency")
+                .description("Délai entre l'acceptation d'une commande et la fin de son traitement")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "order-intake-worker");
+        worker.start();
+        log.info("=== Traitement asynchrone des commandes démarré (lots de {} max) ===", batchSize);
+    }
+
+    @Override
+    public void stop() {
+        // On laisse le worker vider la file avant l'arrêt
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (true) {
+            List<Order> batch;
+            try {
+                batch = intake.takeBatch(batchSize, lingerMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch.isEmpty()) {
+                if (!running) return;
+                continue;
+            }
+            process(batch);
+        }
+    }
+
+    private void process(List<Order> batch) {
+        batchSizes.record(batch.size());
+        try {
+            orderUseCase.processOrderBatch(batch);
+        } catch (RuntimeException e) {
+            // processOrderBatch ne lève qu'avant tout mouvement de stock : le lot peut être rejoué
+            // commande par commande pour isoler la fautive, sans double décrément
+            log.error("Échec du traitement d'un lot de {} commandes: {}", batch.size(), e.getMessage());
+            if (batch.size() > 1) {
+                batch.forEach(order -> process(List.of(order)));
+                return;
+            }
+            intake.abandon(batch.get(0).getId());
+            log.error("Commande {} abandonnée (aucun stock décrémenté)", batch.get(0).getId());
+        }
+        batch.forEach(order -> latency.record(intake.complete(order.getId()), TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.infrastructure.adapter.inventory;
+
+import com.ecommerce.domain.port.output.InventoryPort;
+import com.ecommerce.domain.port.output.ProductRepositoryPort.StockDecrement;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ADAPTATEUR - Stock tenu uniquement en base (inventory.engine=database).
+ *
+ * Chaque vente est un UPDATE conditionnel sur la base du fournisseur concerné.
+ */
+@RequiredArgsConstructor
+public class DatabaseInventoryAdapter implements InventoryPort {
+
+    private final SupplierRepositoryRouter supplierRouter;
+
+    @Override
+    public boolean tryDecrease(String supplierId, String productId, int quantity) {
+        return supplierRouter.getRepositoryForSupplier(supplierId).decreaseStockIfAvailable(productId, quantity);
+    }
+
+    @Override
+    public boolean[] tryDecreaseAll(String supplierId, List<StockDecrement> decrements) {
+        return supplierRouter.getRepositoryForSupplier(supplierId).decreaseStockBatch(decrements);
+    }
+
+    @Override
+    public void increase(String supplierId, String productId, int quantity) {
+        supplierRouter.getRepositoryForSupplier(supplierId).increaseStock(productId, quantity);
+    }
+
+    @Override
+    public void evict(String supplierId, String productId) {
+        // Rien en mémoire : la base est toujours à jour
+    }
+}
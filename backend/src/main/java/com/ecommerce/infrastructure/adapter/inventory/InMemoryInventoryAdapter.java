@@ -0,0 +1,400 @@
+package com.ecommerce.infrastructure.adapter.inventory;
+
+import com.ecommerce.domain.model.FederatedProducts;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.InventoryPort;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.ProductRepositoryPort.StockDecrement;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ADAPTATEUR - Stock tenu en mémoire (inventory.engine=memory).
+ *
+ * Un compteur atomique par produit, regroupés par fournisseur. Une vente est un
+ * compare-and-set sur le compteur, sans aller-retour en base ni verrou.
+ * Les ventes sont reportées en base par lots toutes les inventory.flush-interval-ms,
+ * une transaction par fournisseur, via le ProductRepositoryPort de ce fournisseur.
+ *
+ * Le stock disponible et les ventes non reportées tiennent dans un seul long : une vente
+ * et l'écartement du compteur ne peuvent pas s'intercaler, toute vente est soit comptée
+ * dans le reliquat reporté à l'écartement, soit refusée par le compteur écarté (puis
+ * rejouée sur le compteur suivant, chargé une fois le reliquat écrit en base).
+ *
+ * Réconciliation : les compteurs sont chargés depuis les bases au démarrage ;
+ * un produit dont le report est refusé par la base (stock modifié par ailleurs)
+ * est rechargé depuis celle-ci. Un produit absent est chargé à sa première vente,
+ * hors de la map (un compteur « en chargement » réserve la place) : aucune lecture
+ * en base sous le verrou d'une case de ConcurrentHashMap.
+ *
+ * Les ventes non encore reportées sont perdues en cas d'arrêt brutal
+ * (le stock en base reste alors surévalué de ces ventes).
+ */
+@Slf4j
+public class InMemoryInventoryAdapter implements InventoryPort, AutoCloseable {
+
+    /** Compteur écarté : les ventes en cours attendent son retrait de la map. */
+    private static final int RETIRED = Integer.MIN_VALUE;
+    /** Compteur en cours de chargement depuis la base. */
+    private static final int LOADING = Integer.MIN_VALUE + 1;
+
+    private final SupplierRepositoryRouter supplierRouter;
+    private final Map<String, Map<String, StockCounter>> countersBySupplier = new ConcurrentHashMap<>();
+
+    public InMemoryInventoryAdapter(SupplierRepositoryRouter supplierRouter) {
+        this.supplierRouter = supplierRouter;
+    }
+
+    @Override
+    public boolean tryDecrease(String supplierId, String productId, int quantity) {
+        while (true) {
+            StockCounter counter = counter(supplierId, productId);
+            if (counter == null) {
+                return false;
+            }
+            long state = counter.state.get();
+            int available = available(state);
+            if (available == RETIRED) {
+                await(counter.removed);
+                continue;
+            }
+            if (available < quantity) {
+                return false;
+            }
+            if (counter.state.compareAndSet(state, pack(available - quantity, unflushed(state) + quantity))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean[] tryDecreaseAll(String supplierId, List<StockDecrement> decrements) {
+        boolean[] applied = new boolean[decrements.size()];
+        int i = 0;
+        try {
+            for (; i < applied.length; i++) {
+                StockDecrement d = decrements.get(i);
+                applied[i] = tryDecrease(supplierId, d.productId(), d.quantity());
+            }
+        } catch (RuntimeException e) {
+            // Chargement d'un compteur en échec : les décréments déjà faits sont rendus (tout ou rien)
+            for (int j = 0; j < i; j++) {
+                if (applied[j]) {
+                    increase(supplierId, decrements.get(j).productId(), decrements.get(j).quantity());
+                }
+            }
+            throw e;
+        }
+        return applied;
+    }
+
+    @Override
+    public void increase(String supplierId, String productId, int quantity) {
+        while (true) {
+            StockCounter counter = counters(supplierId).get(productId);
+            if (counter == null) {
+                // Pas en mémoire : la base fait foi
+                supplierRouter.getRepositoryForSupplier(supplierId).increaseStock(productId, quantity);
+                return;
+            }
+            long state = counter.state.get();
+            int available = available(state);
+            if (available == LOADING) {
+                await(counter.loaded);
+                continue;
+            }
+            if (available == RETIRED) {
+                await(counter.removed);
+                continue;
+            }
+            if (counter.state.compareAndSet(state, pack(available + quantity, unflushed(state) - quantity))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void evict(String supplierId, String productId) {
+        Map<String, StockCounter> counters = counters(supplierId);
+        StockCounter counter = counters.get(productId);
+        // La nouvelle valeur en base l'emporte sur les ventes non reportées
+        if (counter != null && retire(counter).isPresent()) {
+            remove(counters, counter);
+        }
+    }
+
+    /**
+     * Réconciliation au démarrage : charge le stock de tous les produits de tous les fournisseurs.
+     * Les fournisseurs indisponibles seront chargés produit par produit à la première vente.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        FederatedProducts catalog = supplierRouter.findAllAcrossSuppliers();
+        for (Product product : catalog.products()) {
+            counters(product.getSupplierId()).putIfAbsent(product.getId(),
+                    StockCounter.loaded(product.getId(), initialLevel(product)));
+        }
+        log.info("=== Inventaire en mémoire chargé: {} produits ===", catalog.products().size());
+        if (catalog.isPartial()) {
+            log.warn("Inventaire partiel - fournisseurs non chargés: {} {}",
+                    catalog.timedOutSuppliers(), catalog.failedSuppliers());
+        }
+    }
+
+    /**
+     * Reporte en base les ventes et restitutions accumulées depuis le dernier passage.
+     */
+    @Scheduled(fixedDelayString = "${inventory.flush-interval-ms:100}")
+    public void flush() {
+        countersBySupplier.forEach(this::flushSupplier);
+    }
+
+    /**
+     * Reporte les dernières ventes avant l'arrêt du contexte Spring.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void flushSupplier(String supplierId, Map<String, StockCounter> counters) {
+        List<StockCounter> sold = new ArrayList<>();
+        List<StockDecrement> decrements = new ArrayList<>();
+        List<StockCounter> returned = new ArrayList<>();
+        List<Integer> returnedQuantities = new ArrayList<>();
+        for (StockCounter counter : counters.values()) {
+            int delta = takeUnflushed(counter);
+            if (delta > 0) {
+                sold.add(counter);
+                decrements.add(new StockDecrement(counter.productId, delta));
+            } else if (delta < 0) {
+                returned.add(counter);
+                returnedQuantities.add(-delta);
+            }
+        }
+        if (sold.isEmpty() && returned.isEmpty()) {
+            return;
+        }
+
+        ProductRepositoryPort repository = supplierRouter.getRepositoryForSupplier(supplierId);
+        if (!sold.isEmpty()) {
+            boolean[] applied = null;
+            try {
+                applied = repository.decreaseStockBatch(decrements);
+            } catch (RuntimeException e) {
+                // Base indisponible : la mémoire reste la référence, on réessaiera au prochain passage
+                for (int i = 0; i < sold.size(); i++) {
+                    restoreUnflushed(sold.get(i), decrements.get(i).quantity());
+                }
+                log.error("Report des ventes impossible pour le fournisseur {}: {}", supplierId, e.getMessage());
+            }
+            for (int i = 0; applied != null && i < applied.length; i++) {
+                if (!applied[i]) {
+                    log.error("Écart d'inventaire - Fournisseur: {}, Produit: {}, {} unités vendues refusées par la base",
+                            supplierId, decrements.get(i).productId(), decrements.get(i).quantity());
+                    reload(counters, sold.get(i), repository);
+                }
+            }
+        }
+        for (int i = 0; i < returned.size(); i++) {
+            StockCounter counter = returned.get(i);
+            try {
+                repository.increaseStock(counter.productId, returnedQuantities.get(i));
+            } catch (RuntimeException e) {
+                restoreUnflushed(counter, -returnedQuantities.get(i));
+                log.error("Report des restitutions impossible pour le produit {}: {}", counter.productId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Écarte le compteur, reporte les ventes qu'il avait encore, puis seulement le retire :
+     * la prochaine vente relira en base un stock qui tient compte de toutes les ventes passées.
+     */
+    private void reload(Map<String, StockCounter> counters, StockCounter counter, ProductRepositoryPort repository) {
+        Optional<Integer> remaining = retire(counter);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        try {
+            int delta = remaining.get();
+            if (delta > 0 && !repository.decreaseStockIfAvailable(counter.productId, delta)) {
+                log.error("Écart d'inventaire - Produit: {}, {} unités supplémentaires refusées par la base",
+                        counter.productId, delta);
+            } else if (delta < 0) {
+                repository.increaseStock(counter.productId, -delta);
+            }
+        } finally {
+            remove(counters, counter);
+        }
+    }
+
+    /**
+     * Passe le compteur à RETIRED en prenant, dans la même opération atomique, les ventes non reportées.
+     *
+     * @return ces ventes, vide si le compteur était déjà écarté
+     */
+    private static Optional<Integer> retire(StockCounter counter) {
+        while (true) {
+            long state = counter.state.get();
+            int available = available(state);
+            if (available == RETIRED) {
+                return Optional.empty();
+            }
+            if (available == LOADING) {
+                await(counter.loaded);
+                continue;
+            }
+            if (counter.state.compareAndSet(state, pack(RETIRED, 0))) {
+                return Optional.of(unflushed(state));
+            }
+        }
+    }
+
+    private static void remove(Map<String, StockCounter> counters, StockCounter counter) {
+        counters.remove(counter.productId, counter);
+        counter.removed.countDown();
+    }
+
+    private static int takeUnflushed(StockCounter counter) {
+        while (true) {
+            long state = counter.state.get();
+            int available = available(state);
+            if (available == RETIRED || available == LOADING || unflushed(state) == 0) {
+                return 0;
+            }
+            if (counter.state.compareAndSet(state, pack(available, 0))) {
+                return unflushed(state);
+            }
+        }
+    }
+
+    /**
+     * Rend au compteur un reliquat dont le report a échoué. Un compteur écarté entre-temps
+     * l'a été par evict (seul écartement hors du thread de report) : la valeur en base l'emporte.
+     */
+    private static void restoreUnflushed(StockCounter counter, int delta) {
+        while (true) {
+            long state = counter.state.get();
+            int available = available(state);
+            if (available == RETIRED) {
+                return;
+            }
+            if (counter.state.compareAndSet(state, pack(available, unflushed(state) + delta))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Compteur prêt du produit, chargé depuis la base au besoin, ou null si le produit n'existe pas.
+     * Le compteur rendu peut avoir été écarté entre-temps : l'appelant attend alors son retrait.
+     */
+    private StockCounter counter(String supplierId, String productId) {
+        Map<String, StockCounter> counters = counters(supplierId);
+        while (true) {
+            StockCounter counter = counters.get(productId);
+            if (counter == null) {
+                StockCounter placeholder = StockCounter.loading(productId);
+                counter = counters.putIfAbsent(productId, placeholder);
+                if (counter == null) {
+                    return load(supplierId, counters, placeholder);
+                }
+            }
+            if (available(counter.state.get()) == LOADING) {
+                await(counter.loaded);
+                continue;
+            }
+            return counter;
+        }
+    }
+
+    /**
+     * Lecture en base hors de la map : la place est tenue par le compteur en chargement,
+     * les autres ventes du produit attendent sa fin au lieu de relire la base.
+     */
+    private StockCounter load(String supplierId, Map<String, StockCounter> counters, StockCounter placeholder) {
+        boolean ready = false;
+        try {
+            Optional<Product> product = supplierRouter.getRepositoryForSupplier(supplierId).findById(placeholder.productId);
+            if (product.isPresent()) {
+                placeholder.state.set(pack(initialLevel(product.get()), 0));
+                ready = true;
+                return placeholder;
+            }
+            return null;
+        } finally {
+            if (!ready) {
+                placeholder.state.set(pack(RETIRED, 0));
+                remove(counters, placeholder);
+            }
+            placeholder.loaded.countDown();
+        }
+    }
+
+    private Map<String, StockCounter> counters(String supplierId) {
+        return countersBySupplier.computeIfAbsent(supplierId, id -> new ConcurrentHashMap<>());
+    }
+
+    private static int initialLevel(Product product) {
+        return product.isAvailable() ? product.getStock() : 0;
+    }
+
+    private static long pack(int available, int unflushed) {
+        return ((long) available << 32) | (unflushed & 0xFFFFFFFFL);
+    }
+
+    private static int available(long state) {
+        return (int) (state >> 32);
+    }
+
+    private static int unflushed(long state) {
+        return (int) state;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompu en attendant le compteur de stock", e);
+        }
+    }
+
+    /**
+     * Stock disponible d'un produit et ventes pas encore reportées en base (négatif si des unités
+     * ont été rendues), dans un seul long : 32 bits de poids fort pour le stock, 32 de poids faible
+     * pour les ventes. loaded passe à zéro à la fin du chargement, removed au retrait de la map.
+     */
+    private static final class StockCounter {
+        private final String productId;
+        private final AtomicLong state;
+        private final CountDownLatch loaded;
+        private final CountDownLatch removed = new CountDownLatch(1);
+
+        private StockCounter(String productId, long state, int loading) {
+            this.productId = productId;
+            this.state = new AtomicLong(state);
+            this.loaded = new CountDownLatch(loading);
+        }
+
+        static StockCounter loading(String productId) {
+            return new StockCounter(productId, pack(LOADING, 0), 1);
+        }
+
+        static StockCounter loaded(String productId, int available) {
+            return new StockCounter(productId, pack(available, 0), 0);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.infrastructure.adapter.metrics;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.port.output.OrderMetricsPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ADAPTATEUR - Indicateurs métier publiés dans Micrometer.
+ *
+ * Compteurs : orders.placed, orders.items.sold et orders.stock.rejected
+ * (ces deux derniers par fournisseur).
+ *
+ * L'identifiant du fournisseur vient de la requête du client : seuls les fournisseurs
+ * enregistrés auprès du routeur deviennent des tags, les autres sont regroupés sous
+ * "other" (sinon chaque valeur inventée créerait une nouvelle série).
+ */
+@Component
+public class MicrometerOrderMetricsAdapter implements OrderMetricsPort {
+
+    private static final String OTHER_SUPPLIER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final SupplierRepositoryRouter supplierRouter;
+    private final Counter ordersPlaced;
+    private final Map<String, Counter> itemsSold = new ConcurrentHashMap<>();
+    private final Map<String, Counter> stockRejections = new ConcurrentHashMap<>();
+
+    public MicrometerOrderMetricsAdapter(MeterRegistry meterRegistry, SupplierRepositoryRouter supplierRouter) {
+        this.meterRegistry = meterRegistry;
+        this.supplierRouter = supplierRouter;
+        this.ordersPlaced = Counter.builder("orders.placed")
+                .description("Commandes confirmées")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void orderPlaced(Order order) {
+        ordersPlaced.increment();
+        for (OrderItem item : order.getItems()) {
+            itemsSold.computeIfAbsent(supplierTag(item.getSupplierId()), supplierId -> Counter.builder("orders.items.sold")
+                            .description("Unités vendues")
+                            .tag("supplier", supplierId)
+                            .register(meterRegistry))
+                    .increment(item.getQuantity());
+        }
+    }
+
+    @Override
+    public void stockRejected(String supplierId) {
+        stockRejections.computeIfAbsent(supplierTag(supplierId), id -> Counter.builder("orders.stock.rejected")
+                        .description("Articles refusés pour stock insuffisant")
+                        .tag("supplier", id)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private String supplierTag(String supplierId) {
+        return supplierId != null && supplierRouter.getSupplierIds().contains(supplierId) ? supplierId : OTHER_SUPPLIER;
+    }
+}
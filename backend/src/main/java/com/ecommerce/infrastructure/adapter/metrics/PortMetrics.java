@@ -0,0 +1,79 @@
+package com.ecommerce.infrastructure.adapter.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ADAPTATEUR - Instrumentation des ports de sortie.
+ *
+ * Pattern Decorator générique : enveloppe un adaptateur dans un proxy du port qui
+ * chronomètre chaque appel (port.calls, histogramme de percentiles) et compte les
+ * échecs (port.errors, par type d'exception).
+ * Étiquettes : port, method, adapter (mysql, mongo, json, jwt…) et supplier.
+ *
+ * Les timers sont créés à l'instrumentation : un appel ne coûte qu'un échantillon d'horloge.
+ */
+public class PortMetrics {
+
+    /** Étiquette supplier des ports qui ne dépendent pas d'un fournisseur. */
+    public static final String NO_SUPPLIER = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public PortMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T instrument(Class<T> port, T adapter, String adapterType, String supplierId) {
+        Map<Method, Instrument> instruments = new HashMap<>();
+        for (Method method : port.getMethods()) {
+            Tags tags = Tags.of("port", port.getSimpleName(), "method", method.getName(),
+                    "adapter", adapterType.toLowerCase(), "supplier", supplierId);
+            instruments.put(method, new Instrument(tags, Timer.builder("port.calls")
+                    .description("Durée des appels aux ports de sortie")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)));
+        }
+        // Un adaptateur à fermer (journal JSON…) le reste derrière le proxy
+        Class<?>[] interfaces = adapter instanceof AutoCloseable
+                ? new Class<?>[]{port, AutoCloseable.class}
+                : new Class<?>[]{port};
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), interfaces, (proxy, method, args) -> {
+            Instrument instrument = instruments.get(method);
+            if (instrument == null) {
+                // close, equals, hashCode, toString
+                try {
+                    return method.invoke(adapter, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                return method.invoke(adapter, args);
+            } catch (InvocationTargetException e) {
+                Counter.builder("port.errors")
+                        .description("Appels aux ports de sortie terminés par une exception")
+                        .tags(instrument.tags.and("exception", e.getCause().getClass().getSimpleName()))
+                        .register(meterRegistry)
+                        .increment();
+                throw e.getCause();
+            } finally {
+                instrument.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private record Instrument(Tags tags, Timer timer) {}
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.infrastructure.adapter.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Épinglages des threads virtuels (mode spring.threads.virtual.enabled, Java 21+).
+ *
+ * Un thread virtuel qui bloque à l'intérieur d'un bloc synchronized (ou d'un appel natif) garde
+ * son thread porteur : quelques épinglages simultanés suffisent à bloquer tous les autres.
+ * L'événement JFR jdk.VirtualThreadPinned est suivi en continu, sans fichier d'enregistrement :
+ * chaque épinglage plus long que le seuil est compté (jvm.threads.virtual.pinned) et journalisé
+ * avec le haut de la pile qui l'a provoqué.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning-threshold-ms:20}") long thresholdMs) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Threads virtuels épinglés à leur thread porteur au-delà du seuil")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED, this::pinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Suivi JFR des threads virtuels épinglés (seuil {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void pinned(RecordedEvent event) {
+        pinned.increment();
+        RecordedThread thread = event.getThread();
+        log.warn("Thread virtuel épinglé {} ms ({}) :\n{}", event.getDuration().toMillis(),
+                thread != null ? thread.getJavaName() : "?", frames(event.getStackTrace()));
+    }
+
+    private static String frames(RecordedStackTrace stack) {
+        if (stack == null) {
+            return "    (pile indisponible)";
+        }
+        return stack.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::frame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(ligne " + frame.getLineNumber() + ")";
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.infrastructure.adapter.persistence;
+
+import com.ecommerce.domain.exception.SupplierUnavailableException;
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * ADAPTATEUR - Décorateur "bulkhead" de ProductRepositoryPort.
+ *
+ * Limite le nombre d'appels simultanés vers la base d'un fournisseur.
+ * Au-delà, un appel attend au plus acquireTimeout puis échoue avec
+ * SupplierUnavailableException : un fournisseur saturé n'immobilise pas
+ * les threads HTTP qui servent les autres fournisseurs.
+ */
+@Slf4j
+public class BulkheadProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final String supplierId;
+    private final ProductRepositoryPort delegate;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public BulkheadProductRepositoryAdapter(String supplierId, ProductRepositoryPort delegate,
+                                            int maxConcurrentCalls, long acquireTimeoutMs) {
+        this.supplierId = supplierId;
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Optional<Product> findById(String productId) {
+        return call(() -> delegate.findById(productId));
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return call(delegate::findAll);
+    }
+
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        call(() -> {
+            delegate.streamAll(action);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<String> productIds) {
+        return call(() -> delegate.findAllByIds(productIds));
+    }
+
+    @Override
+    public List<Product> findBySupplierId(String supplierId) {
+        return call(() -> delegate.findBySupplierId(supplierId));
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return call(() -> delegate.findByCategory(category));
+    }
+
+    @Override
+    public CursorPage<Product> findPage(ProductSearchCriteria criteria) {
+        return call(() -> delegate.findPage(criteria));
+    }
+
+    @Override
+    public Product save(Product product) {
+        return call(() -> delegate.save(product));
+    }
+
+    @Override
+    public void deleteById(String productId) {
+        run(() -> delegate.deleteById(productId));
+    }
+
+    @Override
+    public boolean existsById(String productId) {
+        return call(() -> delegate.existsById(productId));
+    }
+
+    @Override
+    public void updateStock(String productId, int newStock) {
+        run(() -> delegate.updateStock(productId, newStock));
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(String productId, int quantity) {
+        return call(() -> delegate.decreaseStockIfAvailable(productId, quantity));
+    }
+
+    @Override
+    public boolean[] decreaseStockBatch(List<StockDecrement> decrements) {
+        return call(() -> delegate.decreaseStockBatch(decrements));
+    }
+
+    @Override
+    public void increaseStock(String productId, int quantity) {
+        run(() -> delegate.increaseStock(productId, quantity));
+    }
+
+    private void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T call(Supplier<T> action) {
+        acquire();
+        try {
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("Fournisseur '{}' saturé, appel refusé", supplierId);
+        throw new SupplierUnavailableException(supplierId);
+    }
+}
@@ -1,12 +1,34 @@
 package com.ecommerce.infrastructure.adapter.persistence;
 
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.FederatedProducts;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
 import com.ecommerce.domain.port.output.ProductRepositoryPort;
 import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
-import lombok.RequiredArgsConstructor;
+import com.ecommerce.infrastructure.config.SupplierProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * ADAPTATEUR - Implémentation du routeur vers les bases de données fournisseurs.
@@ -20,9 +42,12 @@ import java.util.Map;
  * - "default" → base par défaut
  *
  * La configuration est injectée via la classe RepositoryConfig.
+ * Un dépôt fournisseur peut être protégé par un bulkhead (product.suppliers.*.max-concurrent-calls).
+ *
+ * Les lectures par identifiant et le listing complet couvrent aussi les fournisseurs rangés hors
+ * de la base par défaut : une base est lue une seule fois, quel que soit le nombre de fournisseurs qui la partagent.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SupplierRepositoryRouterImpl implements SupplierRepositoryRouter {
 
@@ -40,6 +65,54 @@ public class SupplierRepositoryRouterImpl implements SupplierRepositoryRouter {
      */
     private final ProductRepositoryPort defaultProductRepository;
 
+    /**
+     * Un dépôt par base autre que la base par défaut (clé : type et url ou base MongoDB).
+     */
+    private final Map<String, ProductRepositoryPort> otherStores = new LinkedHashMap<>();
+
+    /**
+     * Pool borné utilisé pour interroger les fournisseurs en parallèle.
+     */
+    private final ExecutorService fanOutExecutor;
+
+    /**
+     * Délai maximal accordé à chaque fournisseur lors d'une lecture fédérée.
+     */
+    private final Duration supplierTimeout;
+
+    /**
+     * Le @Qualifier est nécessaire : sans lui, Spring injecterait une map
+     * construite à partir des beans ProductRepositoryPort (indexés par nom de bean)
+     * au lieu de la map des fournisseurs.
+     */
+    public SupplierRepositoryRouterImpl(
+            @Qualifier("supplierRepositories") Map<String, ProductRepositoryPort> supplierRepositories,
+            ProductRepositoryPort defaultProductRepository,
+            @Qualifier("supplierFanOutExecutor") ExecutorService fanOutExecutor,
+            @Value("${product.federation.supplier-timeout-ms:2000}") long supplierTimeoutMs,
+            @Value("${product.repository-type:mysql}") String defaultRepositoryType,
+            SupplierProperties supplierProperties) {
+        // Bulkhead par fournisseur : chaque base a son propre quota d'appels simultanés
+        this.supplierRepositories = new LinkedHashMap<>();
+        supplierRepositories.forEach((supplierId, repo) -> {
+            SupplierProperties.Supplier supplier =
+                    supplierProperties.getSuppliers().getOrDefault(supplierId, new SupplierProperties.Supplier());
+            this.supplierRepositories.put(supplierId, supplier.getMaxConcurrentCalls() > 0
+                    ? new BulkheadProductRepositoryAdapter(supplierId, repo, supplier.getMaxConcurrentCalls(), supplier.getAcquireTimeoutMs())
+                    : repo);
+        });
+        String defaultStore = isMongo(defaultRepositoryType) ? "mongo" : "sql";
+        this.supplierRepositories.forEach((supplierId, repo) -> {
+            String store = storeOf(supplierProperties.getSuppliers().get(supplierId), defaultRepositoryType);
+            if (!store.equals(defaultStore)) {
+                otherStores.putIfAbsent(store, repo);
+            }
+        });
+        this.defaultProductRepository = defaultProductRepository;
+        this.fanOutExecutor = fanOutExecutor;
+        this.supplierTimeout = Duration.ofMillis(supplierTimeoutMs);
+    }
+
     @Override
     public ProductRepositoryPort getRepositoryForSupplier(String supplierId) {
         ProductRepositoryPort repo = supplierRepositories.get(supplierId);
@@ -50,4 +123,123 @@ public class SupplierRepositoryRouterImpl implements SupplierRepositoryRouter {
         log.warn("Fournisseur '{}' non trouvé, utilisation du repository par défaut", supplierId);
         return defaultProductRepository;
     }
+
+    @Override
+    public Set<String> getSupplierIds() {
+        return Collections.unmodifiableSet(supplierRepositories.keySet());
+    }
+
+    @Override
+    public Optional<Product> findProductById(String productId) {
+        Optional<Product> product = defaultProductRepository.findById(productId);
+        for (ProductRepositoryPort repo : otherStores.values()) {
+            if (product.isPresent()) {
+                break;
+            }
+            product = repo.findById(productId);
+        }
+        return product;
+    }
+
+    @Override
+    public List<Product> findAllProducts() {
+        List<Product> products = new ArrayList<>(defaultProductRepository.findAll());
+        otherStores.values().forEach(repo -> products.addAll(repo.findAll()));
+        return products;
+    }
+
+    @Override
+    public void streamAllProducts(Consumer<Product> action) {
+        defaultProductRepository.streamAll(action);
+        otherStores.values().forEach(repo -> repo.streamAll(action));
+    }
+
+    @Override
+    public List<Product> findProductsByCategory(String category) {
+        List<Product> products = new ArrayList<>(defaultProductRepository.findByCategory(category));
+        otherStores.values().forEach(repo -> products.addAll(repo.findByCategory(category)));
+        return products;
+    }
+
+    @Override
+    public CursorPage<Product> findProductPage(ProductSearchCriteria criteria) {
+        CursorPage<Product> page = defaultProductRepository.findPage(criteria);
+        if (otherStores.isEmpty()) {
+            return page;
+        }
+        // Chaque base lit au plus limit produits après le curseur : les limit premiers de l'union y sont tous
+        List<Product> merged = new ArrayList<>(page.items());
+        boolean more = page.hasNext();
+        for (ProductRepositoryPort repo : otherStores.values()) {
+            CursorPage<Product> storePage = repo.findPage(criteria);
+            merged.addAll(storePage.items());
+            more |= storePage.hasNext();
+        }
+        merged.sort(Comparator.comparing(Product::getId));
+        int limit = criteria.getLimit();
+        if (merged.size() > limit) {
+            merged = new ArrayList<>(merged.subList(0, limit));
+            more = true;
+        }
+        String nextCursor = more && !merged.isEmpty() ? merged.get(merged.size() - 1).getId() : null;
+        return new CursorPage<>(merged, nextCursor);
+    }
+
+    @Override
+    public FederatedProducts findAllAcrossSuppliers() {
+        // 1. Lancer toutes les lectures en même temps
+        Map<String, CompletableFuture<List<Product>>> futures = new LinkedHashMap<>();
+        supplierRepositories.forEach((supplierId, repo) -> futures.put(supplierId, submit(supplierId, repo)));
+
+        // 2. Attendre chaque fournisseur : les délais courent en parallèle
+        List<Product> products = new ArrayList<>();
+        Set<String> timedOut = new TreeSet<>();
+        Set<String> failed = new TreeSet<>();
+        futures.forEach((supplierId, future) -> {
+            try {
+                products.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    log.warn("Fournisseur '{}' hors délai ({} ms)", supplierId, supplierTimeout.toMillis());
+                    timedOut.add(supplierId);
+                } else {
+                    log.error("Lecture du fournisseur '{}' en erreur: {}", supplierId, e.getCause().getMessage());
+                    failed.add(supplierId);
+                }
+            }
+        });
+
+        // 3. Fusionner et trier
+        products.sort(Comparator.comparing(Product::getName, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(Product::getId, Comparator.nullsLast(Comparator.<String>naturalOrder())));
+        return new FederatedProducts(products, timedOut, failed);
+    }
+
+    private CompletableFuture<List<Product>> submit(String supplierId, ProductRepositoryPort repo) {
+        try {
+            return CompletableFuture.supplyAsync(() -> repo.findBySupplierId(supplierId), fanOutExecutor)
+                    .orTimeout(supplierTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Pool saturé : le fournisseur est signalé en erreur plutôt que d'attendre
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Base physique d'un fournisseur, avec les mêmes règles que RepositoryConfig.supplierRepositories.
+     */
+    private static String storeOf(SupplierProperties.Supplier supplier, String defaultRepositoryType) {
+        if (supplier == null) {
+            return isMongo(defaultRepositoryType) ? "mongo" : "sql";
+        }
+        String type = supplier.getRepositoryType() != null ? supplier.getRepositoryType() : defaultRepositoryType;
+        if (isMongo(type)) {
+            return supplier.getMongoDatabase() != null ? "mongo:" + supplier.getMongoDatabase() : "mongo";
+        }
+        return supplier.hasOwnDataSource() ? "sql:" + supplier.getUrl() : "sql";
+    }
+
+    private static boolean isMongo(String repositoryType) {
+        return "mongo".equalsIgnoreCase(repositoryType);
+    }
 }
@@ -0,0 +1,130 @@
+package com.ecommerce.infrastructure.adapter.persistence.cache;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * ADAPTATEUR - Décorateur de cache en lecture (read-through) de ProductRepositoryPort.
+ *
+ * Pattern DECORATOR : le domaine ne sait pas qu'il y a un cache.
+ * findById / findAllByIds / findBySupplierId / findByCategory sont servis depuis le cache ;
+ * save, deleteById et toutes les opérations de stock invalident le produit et ses listes
+ * APRÈS l'écriture en base, pour que la validation d'une commande ne lise jamais un stock périmé.
+ * findAll et findPage ne sont pas mis en cache (résultats non bornés / curseurs).
+ *
+ * Les objets renvoyés sont des copies : les appelants peuvent les modifier sans corrompre le cache.
+ */
+@RequiredArgsConstructor
+public class CachingProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final ProductCache cache;
+
+    @Override
+    public Optional<Product> findById(String productId) {
+        return cache.getById(productId, delegate::findById).map(CachingProductRepositoryAdapter::copy);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        delegate.streamAll(action);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<String> productIds) {
+        return copyAll(cache.getAllById(productIds, delegate::findAllByIds));
+    }
+
+    @Override
+    public List<Product> findBySupplierId(String supplierId) {
+        return copyAll(cache.getBySupplier(supplierId, delegate::findBySupplierId));
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return copyAll(cache.getByCategory(category, delegate::findByCategory));
+    }
+
+    @Override
+    public CursorPage<Product> findPage(ProductSearchCriteria criteria) {
+        return delegate.findPage(criteria);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product previous = product.getId() == null ? null : cachedOrLoad(product.getId());
+        Product saved = delegate.save(product);
+        cache.invalidate(saved.getId(), previous, saved);
+        return saved;
+    }
+
+    @Override
+    public void deleteById(String productId) {
+        Product previous = cachedOrLoad(productId);
+        delegate.deleteById(productId);
+        cache.invalidate(productId, previous);
+    }
+
+    @Override
+    public boolean existsById(String productId) {
+        Optional<Product> cached = cache.byId().getIfPresent(productId);
+        return cached != null ? cached.isPresent() : delegate.existsById(productId);
+    }
+
+    @Override
+    public void updateStock(String productId, int newStock) {
+        delegate.updateStock(productId, newStock);
+        cache.invalidate(productId);
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(String productId, int quantity) {
+        boolean decreased = delegate.decreaseStockIfAvailable(productId, quantity);
+        cache.invalidate(productId);
+        return decreased;
+    }
+
+    @Override
+    public boolean[] decreaseStockBatch(List<StockDecrement> decrements) {
+        boolean[] applied = delegate.decreaseStockBatch(decrements);
+        decrements.forEach(d -> cache.invalidate(d.productId()));
+        return applied;
+    }
+
+    @Override
+    public void increaseStock(String productId, int quantity) {
+        delegate.increaseStock(productId, quantity);
+        cache.invalidate(productId);
+    }
+
+    private Product cachedOrLoad(String productId) {
+        Optional<Product> cached = cache.byId().getIfPresent(productId);
+        return (cached != null ? cached : delegate.findById(productId)).orElse(null);
+    }
+
+    private static List<Product> copyAll(List<Product> products) {
+        return products.stream().map(CachingProductRepositoryAdapter::copy).collect(Collectors.toList());
+    }
+
+    static Product copy(Product p) {
+        return Product.builder()
+                .id(p.getId()).name(p.getName()).description(p.getDescription())
+                .price(p.getPrice()).stock(p.getStock()).supplierId(p.getSupplierId())
+                .storeId(p.getStoreId()).category(p.getCategory()).available(p.isAvailable())
+                .build();
+    }
+}
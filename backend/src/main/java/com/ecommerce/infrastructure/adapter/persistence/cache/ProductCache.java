@@ -0,0 +1,242 @@
+package com.ecommerce.infrastructure.adapter.persistence.cache;
+
+import com.ecommerce.domain.model.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ADAPTATEUR - Caches des produits d'une base de données.
+ *
+ * Une instance par base physique : tous les CachingProductRepositoryAdapter
+ * branchés sur la même base partagent ce cache, si bien qu'une écriture via
+ * un fournisseur invalide aussi ce que lisent les autres.
+ *
+ * Caffeine (éviction W-TinyLFU) borné en taille, avec TTL et statistiques.
+ *
+ * Les lectures en base se font hors de tout moniteur (voir load) : Cache.get(clé, chargeur)
+ * exécute le chargeur dans ConcurrentHashMap.compute, sous le verrou synchronized d'un segment,
+ * ce qui épinglerait un thread virtuel à son thread porteur pendant toute la requête JDBC.
+ *
+ * Une lecture n'est gardée que si sa clé n'a pas été invalidée pendant la lecture en base :
+ * les écritures sur d'autres produits (chaque vente en est une) n'écartent rien.
+ * Statistiques et métriques : voir ProductCaches.
+ */
+@Slf4j
+public class ProductCache {
+
+    private final String store;
+    private final Cache<String, Optional<Product>> byId;
+    private final Cache<String, List<Product>> bySupplier;
+    private final Cache<String, List<Product>> byCategory;
+
+    /**
+     * Lectures en base en cours, par cache et par clé : les lectures simultanées d'une clé les attendent.
+     * Une invalidation retire la lecture en cours de sa clé : c'est ce qui la marque comme périmée.
+     */
+    private final Map<String, CompletableFuture<Optional<Product>>> loadingById = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<List<Product>>> loadingBySupplier = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<List<Product>>> loadingByCategory = new ConcurrentHashMap<>();
+
+    public ProductCache(String store, long maxProducts, long maxLists, Duration ttl) {
+        this.store = store;
+        this.byId = Caffeine.newBuilder().maximumSize(maxProducts).expireAfterWrite(ttl).recordStats().build();
+        this.bySupplier = Caffeine.newBuilder().maximumSize(maxLists).expireAfterWrite(ttl).recordStats().build();
+        this.byCategory = Caffeine.newBuilder().maximumSize(maxLists).expireAfterWrite(ttl).recordStats().build();
+    }
+
+    Cache<String, Optional<Product>> byId() {
+        return byId;
+    }
+
+    Cache<String, List<Product>> bySupplier() {
+        return bySupplier;
+    }
+
+    Cache<String, List<Product>> byCategory() {
+        return byCategory;
+    }
+
+    /**
+     * Base physique servie par ce cache (sql, mongo, sql:&lt;url&gt;…).
+     */
+    public String store() {
+        return store;
+    }
+
+    Optional<Product> getById(String productId, Function<String, Optional<Product>> loader) {
+        return load(byId, loadingById, productId, loader);
+    }
+
+    /**
+     * Lecture groupée : les produits absents du cache sont lus en une requête (loader), chacun n'étant
+     * gardé que si sa clé n'a pas été invalidée pendant la lecture. Les lectures simultanées d'un de
+     * ces produits par getById attendent ce résultat.
+     */
+    List<Product> getAllById(Collection<String> productIds, Function<List<String>, List<Product>> loader) {
+        Map<String, Optional<Product>> cached = byId.getAllPresent(productIds);
+        List<Product> result = new ArrayList<>(productIds.size());
+        cached.values().forEach(p -> p.ifPresent(result::add));
+        List<String> missing = productIds.stream().filter(id -> !cached.containsKey(id)).distinct().toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, CompletableFuture<Optional<Product>>> mine = new HashMap<>();
+        for (String id : missing) {
+            CompletableFuture<Optional<Product>> future = new CompletableFuture<>();
+            if (loadingById.putIfAbsent(id, future) == null) {
+                mine.put(id, future);
+            }
+        }
+        try {
+            Map<String, Product> loaded = new HashMap<>();
+            loader.apply(missing).forEach(p -> loaded.put(p.getId(), p));
+            mine.forEach((id, future) -> {
+                Product product = loaded.get(id);
+                if (product != null) {
+                    keepIfCurrent(byId, loadingById, id, future, Optional.of(product));
+                }
+                future.complete(Optional.ofNullable(product));
+            });
+            result.addAll(loaded.values());
+            return result;
+        } catch (RuntimeException e) {
+            mine.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        } finally {
+            mine.forEach(loadingById::remove);
+        }
+    }
+
+    List<Product> getBySupplier(String supplierId, Function<String, List<Product>> loader) {
+        return load(bySupplier, loadingBySupplier, supplierId, loader);
+    }
+
+    List<Product> getByCategory(String category, Function<String, List<Product>> loader) {
+        return load(byCategory, loadingByCategory, category, loader);
+    }
+
+    /**
+     * Lecture à travers le cache. Une seule lecture en base par clé à la fois : les suivantes
+     * attendent son résultat (CompletableFuture, sans moniteur). Le résultat n'est gardé que si
+     * la clé n'a pas été invalidée pendant la lecture ; une invalidation retire aussi la
+     * lecture en cours, pour que les lectures suivantes repartent de la base.
+     */
+    private <V> V load(Cache<String, V> cache, Map<String, CompletableFuture<V>> loading,
+                       String key, Function<String, V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            V value = loader.apply(key);
+            keepIfCurrent(cache, loading, key, mine, value);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    /**
+     * Met la valeur en cache puis vérifie que la lecture est toujours celle en cours pour sa clé.
+     * Vérifié APRÈS le put, et invalidate retire la lecture en cours AVANT de vider le cache :
+     * soit l'invalidation a vu la valeur et l'a retirée, soit cette lecture voit qu'elle a été écartée.
+     */
+    private static <V> void keepIfCurrent(Cache<String, V> cache, Map<String, CompletableFuture<V>> loading,
+                                          String key, CompletableFuture<V> mine, V value) {
+        cache.put(key, value);
+        if (loading.get(key) != mine) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalide un produit et les listes qui le contiennent.
+     *
+     * @param known états connus du produit (avant/après écriture), peuvent être null
+     */
+    void invalidate(String productId, Product... known) {
+        Product cached = byId.asMap().getOrDefault(productId, Optional.empty()).orElse(null);
+        loadingById.remove(productId);
+        byId.invalidate(productId);
+
+        boolean located = false;
+        for (Product p : known) {
+            if (p != null) {
+                invalidateLists(p);
+                located = true;
+            }
+        }
+        if (cached != null) {
+            invalidateLists(cached);
+        } else if (!located) {
+            // Fournisseur et catégorie inconnus : on retire les listes qui contiennent le produit
+            loadingBySupplier.clear();
+            loadingByCategory.clear();
+            bySupplier.asMap().values().removeIf(list -> contains(list, productId));
+            byCategory.asMap().values().removeIf(list -> contains(list, productId));
+        }
+    }
+
+    /**
+     * Statistiques hit/miss/éviction par cache.
+     */
+    public Map<String, CacheStats> stats() {
+        return Map.of("byId", byId.stats(), "bySupplier", bySupplier.stats(), "byCategory", byCategory.stats());
+    }
+
+    public void logStats() {
+        stats().forEach((name, s) -> log.info("[Cache produits {}] {}: taille={}, hits={}, misses={}, hitRate={}, évictions={}",
+                store, name, sizeOf(name), s.hitCount(), s.missCount(), String.format("%.2f", s.hitRate()), s.evictionCount()));
+    }
+
+    private long sizeOf(String name) {
+        return switch (name) {
+            case "byId" -> byId.estimatedSize();
+            case "bySupplier" -> bySupplier.estimatedSize();
+            default -> byCategory.estimatedSize();
+        };
+    }
+
+    private void invalidateLists(Product p) {
+        if (p.getSupplierId() != null) {
+            loadingBySupplier.remove(p.getSupplierId());
+            bySupplier.invalidate(p.getSupplierId());
+        }
+        if (p.getCategory() != null) {
+            loadingByCategory.remove(p.getCategory());
+            byCategory.invalidate(p.getCategory());
+        }
+    }
+
+    private static boolean contains(List<Product> list, String productId) {
+        return list.stream().anyMatch(p -> productId.equals(p.getId()));
+    }
+}
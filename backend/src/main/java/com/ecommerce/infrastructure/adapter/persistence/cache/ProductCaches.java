@@ -0,0 +1,38 @@
+package com.ecommerce.infrastructure.adapter.persistence.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ADAPTATEUR - Registre des caches de produits, un par base physique.
+ *
+ * Les caches des bases dédiées aux fournisseurs ne sont pas des beans Spring : ils sont enregistrés
+ * ici à leur création, pour publier leurs métriques Caffeine (cache.gets, cache.evictions…,
+ * étiquettes cache et store) et journaliser leurs statistiques comme celui de la base principale.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCaches {
+
+    private final MeterRegistry meterRegistry;
+    private final List<ProductCache> caches = new CopyOnWriteArrayList<>();
+
+    public ProductCache register(ProductCache cache) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.byId(), "products.byId", "store", cache.store());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.bySupplier(), "products.bySupplier", "store", cache.store());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.byCategory(), "products.byCategory", "store", cache.store());
+        caches.add(cache);
+        return cache;
+    }
+
+    @Scheduled(fixedDelayString = "${product.cache.stats-log-interval-ms:60000}")
+    public void logStats() {
+        caches.forEach(ProductCache::logStats);
+    }
+}
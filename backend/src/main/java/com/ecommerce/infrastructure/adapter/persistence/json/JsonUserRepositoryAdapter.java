@@ -1,15 +1,28 @@
 package com.ecommerce.infrastructure.adapter.persistence.json;
 
+import com.ecommerce.domain.exception.DuplicateUserException;
 import com.ecommerce.domain.model.User;
 import com.ecommerce.domain.port.output.UserRepositoryPort;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * ADAPTATEUR - Implémentation JSON (fichier local) de UserRepositoryPort.
@@ -17,90 +30,318 @@ import java.util.stream.Collectors;
  * Lit les utilisateurs depuis un fichier JSON local (./data/users.json).
  * Activé quand auth.repository-type=json dans application.yml.
  *
+ * Le fichier est chargé une seule fois dans des index mémoire (id, username, email).
+ * Chaque écriture est ajoutée à un journal NDJSON (users.json.journal) synchronisé
+ * sur disque par lots toutes les fsync-interval-ms ; le journal est compacté dans
+ * le fichier principal au-delà de compaction-threshold entrées.
+ * Au démarrage, le journal est rejoué par-dessus le fichier principal (reprise après crash).
+ *
  * Démontre que le cœur métier est totalement agnostique de la source de données.
  */
 @Slf4j
-public class JsonUserRepositoryAdapter implements UserRepositoryPort {
+public class JsonUserRepositoryAdapter implements UserRepositoryPort, AutoCloseable {
+
+    private static final long DEFAULT_FSYNC_INTERVAL_MS = 100;
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
 
-    private final String filePath;
+    private final Path snapshotPath;
+    private final Path journalPath;
     private final ObjectMapper objectMapper;
+    private final int compactionThreshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, User> byId = new HashMap<>();
+    private final Map<String, User> byUsername = new HashMap<>();
+    private final Map<String, User> byEmail = new HashMap<>();
+
+    private final FileChannel journal;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final ScheduledExecutorService fsyncScheduler;
+    private int journalEntries;
 
     public JsonUserRepositoryAdapter(String filePath) {
-        this.filePath = filePath;
-        this.objectMapper = new ObjectMapper();
+        this(filePath, DEFAULT_FSYNC_INTERVAL_MS, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JsonUserRepositoryAdapter(String filePath, long fsyncIntervalMs, int compactionThreshold) {
+        this.snapshotPath = Paths.get(filePath).toAbsolutePath();
+        this.journalPath = Paths.get(filePath + ".journal").toAbsolutePath();
+        this.objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.compactionThreshold = compactionThreshold;
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            loadSnapshot();
+            this.journal = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            replayJournal();
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors du chargement des utilisateurs JSON", e);
+        }
+        this.fsyncScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "json-users-fsync");
+            t.setDaemon(true);
+            return t;
+        });
+        fsyncScheduler.scheduleWithFixedDelay(this::sync, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("[JSON] {} utilisateurs chargés depuis {}", byId.size(), snapshotPath);
     }
 
     @Override
     public Optional<User> findByUsername(String username) {
         log.debug("[JSON] Recherche utilisateur par username: {}", username);
-        return loadUsers().stream()
-                .filter(u -> u.getUsername().equals(username))
-                .findFirst();
+        return read(byUsername, username);
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return loadUsers().stream()
-                .filter(u -> u.getEmail().equals(email))
-                .findFirst();
+        return read(byEmail, email);
     }
 
     @Override
     public Optional<User> findById(String id) {
-        return loadUsers().stream()
-                .filter(u -> u.getId().equals(id))
-                .findFirst();
+        return read(byId, id);
     }
 
     @Override
     public User save(User user) {
-        List<User> users = loadUsers();
-        if (user.getId() == null) {
-            user.setId(UUID.randomUUID().toString());
-            users.add(user);
-        } else {
-            users = users.stream()
-                    .map(u -> u.getId().equals(user.getId()) ? user : u)
-                    .collect(Collectors.toList());
-            if (users.stream().noneMatch(u -> u.getId().equals(user.getId()))) {
-                users.add(user);
+        lock.writeLock().lock();
+        try {
+            if (user.getId() == null) {
+                user.setId(UUID.randomUUID().toString());
+            }
+            User stored = copy(user);
+            appendToJournal(stored);
+            index(stored);
+            if (journalEntries >= compactionThreshold) {
+                compact();
+            }
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Vérification d'unicité et écriture sous le même verrou : deux inscriptions
+     * simultanées du même nom ne peuvent pas passer toutes les deux.
+     */
+    @Override
+    public User create(User user) {
+        lock.writeLock().lock();
+        try {
+            if (byUsername.containsKey(user.getUsername())) {
+                throw new DuplicateUserException(DuplicateUserException.Field.USERNAME);
+            }
+            if (byEmail.containsKey(user.getEmail())) {
+                throw new DuplicateUserException(DuplicateUserException.Field.EMAIL);
             }
+            return save(user);
+        } finally {
+            lock.writeLock().unlock();
         }
-        saveUsers(users);
-        return user;
     }
 
     @Override
     public boolean existsByUsername(String username) {
-        return loadUsers().stream().anyMatch(u -> u.getUsername().equals(username));
+        return contains(byUsername, username);
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return loadUsers().stream().anyMatch(u -> u.getEmail().equals(email));
+        return contains(byEmail, email);
     }
 
-    private List<User> loadUsers() {
-        File file = new File(filePath);
-        if (!file.exists()) {
-            log.info("[JSON] Fichier {} inexistant, création d'une liste vide", filePath);
-            return new ArrayList<>();
-        }
+    /**
+     * Synchronise le journal sur disque et le compacte dans le fichier principal.
+     * Appelé automatiquement par Spring à l'arrêt du contexte.
+     */
+    @Override
+    public void close() {
+        fsyncScheduler.shutdown();
+        lock.writeLock().lock();
         try {
-            return objectMapper.readValue(file, new TypeReference<List<User>>() {});
+            if (journalEntries > 0) {
+                compact();
+            }
+            journal.close();
         } catch (IOException e) {
-            log.error("[JSON] Erreur lors de la lecture du fichier: {}", e.getMessage());
-            return new ArrayList<>();
+            log.error("[JSON] Erreur lors de la fermeture du journal: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Optional<User> read(Map<String, User> index, String key) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(index.get(key)).map(JsonUserRepositoryAdapter::copy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean contains(Map<String, User> index, String key) {
+        lock.readLock().lock();
+        try {
+            return index.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(User user) {
+        User previous = byId.put(user.getId(), user);
+        if (previous != null) {
+            byUsername.remove(previous.getUsername());
+            byEmail.remove(previous.getEmail());
+        }
+        byUsername.put(user.getUsername(), user);
+        byEmail.put(user.getEmail(), user);
+    }
+
+    private void loadSnapshot() throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            log.info("[JSON] Fichier {} inexistant, création d'une liste vide", snapshotPath);
+            return;
         }
+        List<User> users = objectMapper.readValue(snapshotPath.toFile(), new TypeReference<List<User>>() {});
+        users.forEach(this::index);
     }
 
-    private void saveUsers(List<User> users) {
-        File file = new File(filePath);
-        file.getParentFile().mkdirs();
+    /**
+     * Rejoue le journal. Une ligne incomplète ou illisible (écriture interrompue par un crash)
+     * marque la fin du journal valide : le fichier est tronqué à cet endroit.
+     */
+    private void replayJournal() throws IOException {
+        byte[] content = Files.readAllBytes(journalPath);
+        int start = 0;
+        int validEnd = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] != '\n') continue;
+            try {
+                index(objectMapper.readValue(content, start, i - start, User.class));
+                journalEntries++;
+                validEnd = i + 1;
+            } catch (IOException e) {
+                break;
+            }
+            start = i + 1;
+        }
+        if (validEnd < content.length) {
+            log.warn("[JSON] Entrée de journal incomplète ou illisible à l'octet {}, journal tronqué", validEnd);
+            journal.truncate(validEnd);
+            journal.force(true);
+        }
+        journal.position(validEnd);
+        if (journalEntries > 0) {
+            log.info("[JSON] {} entrées rejouées depuis le journal {}", journalEntries, journalPath);
+        }
+    }
+
+    /**
+     * Une écriture interrompue est retirée du journal (retour à la dernière position valide) :
+     * sinon les entrées suivantes seraient écrites après une ligne incomplète, et perdues
+     * au rejeu qui s'arrête sur cette ligne.
+     */
+    private void appendToJournal(User user) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(user);
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la sauvegarde des utilisateurs en JSON", e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        long validEnd;
         try {
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, users);
+            validEnd = journal.position();
         } catch (IOException e) {
             throw new RuntimeException("Erreur lors de la sauvegarde des utilisateurs en JSON", e);
         }
+        try {
+            writeFully(journal, buffer);
+            journalEntries++;
+            dirty.set(true);
+        } catch (IOException e) {
+            try {
+                journal.truncate(validEnd);
+                journal.position(validEnd);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+                log.error("[JSON] Journal non tronqué après une écriture interrompue: {}", truncateFailure.getMessage());
+            }
+            throw new RuntimeException("Erreur lors de la sauvegarde des utilisateurs en JSON", e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * fsync du répertoire : rend durable le renommage qui vient d'y être fait.
+     * Sans objet sous Windows, où un répertoire ne peut pas être ouvert comme fichier.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        if (File.separatorChar == '\\') {
+            return;
+        }
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        }
+    }
+
+    /**
+     * fsync groupé : une seule synchronisation disque pour toutes les écritures de l'intervalle.
+     */
+    private void sync() {
+        if (!dirty.getAndSet(false)) return;
+        try {
+            journal.force(false);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("[JSON] Erreur lors de la synchronisation du journal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Écrit l'état complet dans un fichier temporaire, le substitue atomiquement
+     * au fichier principal, puis vide le journal. Appelé sous verrou d'écriture.
+     * Le répertoire est synchronisé avant de vider le journal : sans cela, après un crash,
+     * le renommage pourrait être perdu alors que la troncature du journal a été écrite.
+     * Un crash entre les deux étapes est sans effet : rejouer le journal est idempotent.
+     */
+    private void compact() {
+        Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(out, ByteBuffer.wrap(objectMapper.writeValueAsBytes(byId.values())));
+                out.force(true);
+            }
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory(snapshotPath.getParent());
+            journal.truncate(0);
+            journal.force(true);
+            dirty.set(false);
+            log.info("[JSON] Journal compacté ({} entrées) dans {}", journalEntries, snapshotPath);
+            journalEntries = 0;
+        } catch (IOException e) {
+            // Le journal reste la source de vérité, la compaction sera retentée
+            log.error("[JSON] Erreur lors de la compaction: {}", e.getMessage());
+        }
+    }
+
+    private static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .roles(user.getRoles() == null ? null : new HashSet<>(user.getRoles()))
+                .active(user.isActive())
+                .build();
     }
 }
@@ -0,0 +1,166 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderSummary;
+import com.ecommerce.domain.port.output.OrderRepositoryPort;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * ADAPTATEUR - Implémentation MongoDB de OrderRepositoryPort.
+ *
+ * Activé quand product.repository-type=mongo. Les lignes sont embarquées dans le document
+ * de la commande ; l'historique paginé calcule nombre de lignes et total côté serveur
+ * (pipeline d'agrégation) sans renvoyer les lignes.
+ */
+public class MongoOrderRepositoryAdapter implements OrderRepositoryPort {
+
+    /** Nombre de lignes et total de la commande, calculés sur les lignes embarquées. */
+    private static final Document SUMMARY_PROJECTION = new Document("$project", new Document()
+            .append("status", 1)
+            .append("createdAt", 1)
+            .append("itemCount", new Document("$size", new Document("$ifNull", List.of("$items", List.of()))))
+            .append("total", new Document("$sum", new Document("$map", new Document()
+                    .append("input", new Document("$ifNull", List.of("$items", List.of())))
+                    .append("as", "i")
+                    .append("in", new Document("$multiply", List.of("$$i.unitPrice", "$$i.quantity")))))));
+
+    private final OrderMongoRepository mongoRepository;
+    private final MongoTemplate mongoTemplate;
+
+    public MongoOrderRepositoryAdapter(OrderMongoRepository mongoRepository, MongoTemplate mongoTemplate) {
+        this.mongoRepository = mongoRepository;
+        this.mongoTemplate = mongoTemplate;
+        // Historique d'un client : index (customerId, createdAt desc, _id desc)
+        mongoTemplate.indexOps(OrderMongoDocument.class).ensureIndex(new Index()
+                .on("customerId", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                .named("idx_orders_customer_created"));
+    }
+
+    @Override
+    public Optional<Order> findById(String orderId) {
+        return mongoRepository.findById(orderId).map(this::toDomain);
+    }
+
+    @Override
+    public List<Order> findByCustomerId(String customerId) {
+        return mongoRepository.findByCustomerId(customerId).stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public CursorPage<OrderSummary> findSummariesByCustomerId(String customerId, String cursor, int limit) {
+        Criteria criteria = where("customerId").is(customerId);
+        if (cursor != null) {
+            String[] position = decodeCursor(cursor);
+            LocalDateTime createdAt = LocalDateTime.parse(position[0]);
+            criteria.orOperator(where("createdAt").lt(createdAt),
+                    where("createdAt").is(createdAt).and("id").lt(position[1]));
+        }
+        AggregationOperation project = context -> SUMMARY_PROJECTION;
+        // Un élément de plus pour savoir s'il existe une page suivante
+        Aggregation aggregation = Aggregation.newAggregation(OrderMongoDocument.class,
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "createdAt", "id")),
+                Aggregation.limit(limit + 1),
+                project);
+        List<Document> rows = mongoTemplate.aggregate(aggregation, OrderMongoDocument.class, Document.class).getMappedResults();
+
+        boolean hasNext = rows.size() > limit;
+        List<OrderSummary> items = rows.stream().limit(limit).map(this::toSummary).collect(Collectors.toList());
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return mongoRepository.findAll().stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
+    @Override
+    public Order save(Order order) {
+        if (order.getId() == null) order.setId(UUID.randomUUID().toString());
+        return toDomain(mongoRepository.save(toDocument(order)));
+    }
+
+    @Override
+    public void deleteById(String orderId) {
+        mongoRepository.deleteById(orderId);
+    }
+
+    // --- Curseur opaque : base64url("createdAt|id"), même format que l'adaptateur MySQL ---
+
+    private String encodeCursor(OrderSummary last) {
+        String raw = last.createdAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (position.length != 2) throw new IllegalArgumentException();
+            LocalDateTime.parse(position[0]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide: " + cursor);
+        }
+    }
+
+    private OrderSummary toSummary(Document row) {
+        // $sum d'une liste vide renvoie l'entier 0, pas un Decimal128
+        Object total = row.get("total");
+        return new OrderSummary(
+                row.getString("_id"),
+                Order.OrderStatus.valueOf(row.getString("status")),
+                LocalDateTime.ofInstant(row.getDate("createdAt").toInstant(), ZoneId.systemDefault()),
+                ((Number) row.get("itemCount")).longValue(),
+                total instanceof Decimal128 d ? d.bigDecimalValue() : new BigDecimal(total.toString()));
+    }
+
+    private Order toDomain(OrderMongoDocument d) {
+        List<OrderItem> items = d.getItems() == null ? List.of() : d.getItems().stream()
+                .map(i -> OrderItem.builder()
+                        .productId(i.getProductId()).productName(i.getProductName())
+                        .supplierId(i.getSupplierId()).quantity(i.getQuantity()).unitPrice(i.getUnitPrice())
+                        .build())
+                .collect(Collectors.toList());
+        return Order.builder()
+                .id(d.getId()).customerId(d.getCustomerId()).items(items)
+                .status(d.getStatus()).createdAt(d.getCreatedAt())
+                .updatedAt(d.getUpdatedAt()).shippingAddress(d.getShippingAddress())
+                .build();
+    }
+
+    private OrderMongoDocument toDocument(Order o) {
+        List<OrderMongoDocument.Line> items = o.getItems() == null ? List.of() : o.getItems().stream()
+                .map(i -> OrderMongoDocument.Line.builder()
+                        .productId(i.getProductId()).productName(i.getProductName())
+                        .supplierId(i.getSupplierId()).quantity(i.getQuantity()).unitPrice(i.getUnitPrice())
+                        .build())
+                .collect(Collectors.toList());
+        return OrderMongoDocument.builder()
+                .id(o.getId()).customerId(o.getCustomerId()).items(items)
+                .status(o.getStatus()).createdAt(o.getCreatedAt())
+                .updatedAt(o.getUpdatedAt()).shippingAddress(o.getShippingAddress())
+                .build();
+    }
+}
@@ -0,0 +1,242 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Decimal128;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ADAPTATEUR - Implémentation MongoDB de ProductRepositoryPort.
+ *
+ * Activé pour un fournisseur quand product.suppliers.&lt;id&gt;.repository-type=mongo
+ * (ou pour tous via product.repository-type=mongo).
+ * Les décréments de stock sont des findAndModify gardés par stock >= quantité,
+ * les décréments par lot un seul bulkWrite.
+ */
+@Slf4j
+public class MongoProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final MongoTemplate mongoTemplate;
+    private final String supplierId; // Identifiant du fournisseur associé à cette base
+
+    public MongoProductRepositoryAdapter(MongoTemplate mongoTemplate, String supplierId) {
+        this.mongoTemplate = mongoTemplate;
+        this.supplierId = supplierId;
+        mongoTemplate.indexOps(ProductMongoDocument.class).ensureIndex(new Index("supplierId", Sort.Direction.ASC));
+        mongoTemplate.indexOps(ProductMongoDocument.class).ensureIndex(new Index("category", Sort.Direction.ASC));
+    }
+
+    @Override
+    public Optional<Product> findById(String productId) {
+        return Optional.ofNullable(mongoTemplate.findById(productId, ProductMongoDocument.class)).map(this::toDomain);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return toDomain(mongoTemplate.findAll(ProductMongoDocument.class));
+    }
+
+    /**
+     * Curseur Mongo lu par paquets de 500 documents, fermé en fin de parcours ou sur erreur.
+     */
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        try (Stream<ProductMongoDocument> docs = mongoTemplate.stream(new Query().cursorBatchSize(500),
+                ProductMongoDocument.class)) {
+            docs.map(this::toDomain).forEach(action);
+        }
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<String> productIds) {
+        return toDomain(mongoTemplate.find(query(where("id").in(productIds)), ProductMongoDocument.class));
+    }
+
+    @Override
+    public List<Product> findBySupplierId(String supplierId) {
+        return toDomain(mongoTemplate.find(query(where("supplierId").is(supplierId)), ProductMongoDocument.class));
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return toDomain(mongoTemplate.find(query(where("category").is(category)), ProductMongoDocument.class));
+    }
+
+    @Override
+    public CursorPage<Product> findPage(ProductSearchCriteria c) {
+        int limit = c.getLimit();
+        Criteria criteria = new Criteria();
+        if (c.getCursor() != null) criteria.and("id").gt(c.getCursor());
+        if (c.getSupplierId() != null) criteria.and("supplierId").is(c.getSupplierId());
+        if (c.getCategory() != null) criteria.and("category").is(c.getCategory());
+        if (c.getMinPrice() != null || c.getMaxPrice() != null) {
+            Criteria price = criteria.and("price");
+            if (c.getMinPrice() != null) price.gte(new Decimal128(c.getMinPrice()));
+            if (c.getMaxPrice() != null) price.lte(new Decimal128(c.getMaxPrice()));
+        }
+        if (c.getAvailable() != null) criteria.and("available").is(c.getAvailable());
+
+        // On lit un élément de plus pour savoir s'il existe une page suivante, sans count
+        List<ProductMongoDocument> docs = mongoTemplate.find(
+                query(criteria).with(Sort.by("id")).limit(limit + 1), ProductMongoDocument.class);
+        boolean hasNext = docs.size() > limit;
+        List<Product> items = docs.stream().limit(limit).map(this::toDomain).collect(Collectors.toList());
+        String nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    public Product save(Product product) {
+        if (product.getId() == null) {
+            product.setId(UUID.randomUUID().toString());
+        }
+        return toDomain(mongoTemplate.save(toDocument(product)));
+    }
+
+    @Override
+    public void deleteById(String productId) {
+        mongoTemplate.remove(query(where("id").is(productId)), ProductMongoDocument.class);
+    }
+
+    @Override
+    public boolean existsById(String productId) {
+        return mongoTemplate.exists(query(where("id").is(productId)), ProductMongoDocument.class);
+    }
+
+    @Override
+    public void updateStock(String productId, int newStock) {
+        log.info("[MongoDB-{}] Mise à jour du stock: produit={}, newStock={}", supplierId, productId, newStock);
+        mongoTemplate.updateFirst(query(where("id").is(productId)), Update.update("stock", newStock), ProductMongoDocument.class);
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(String productId, int quantity) {
+        ProductMongoDocument updated = mongoTemplate.findAndModify(guarded(productId, quantity),
+                new Update().inc("stock", -quantity), FindAndModifyOptions.options().returnNew(true),
+                ProductMongoDocument.class);
+        boolean decreased = updated != null;
+        if (decreased && updated.getStock() == 0) {
+            mongoTemplate.updateFirst(soldOut(productId), Update.update("available", false), ProductMongoDocument.class);
+        }
+        log.info("[MongoDB-{}] Décrément du stock: produit={}, quantité={}, succès={}",
+                supplierId, productId, quantity, decreased);
+        return decreased;
+    }
+
+    /**
+     * Un seul bulkWrite ordonné pour tout le lot. Le résultat d'un bulkWrite ne dit pas quelles
+     * mises à jour ont porté : chaque décrément dépose un jeton sur le produit, relu puis retiré
+     * (trois allers-retours quelle que soit la taille du lot).
+     */
+    @Override
+    public boolean[] decreaseStockBatch(List<StockDecrement> decrements) {
+        boolean[] applied = new boolean[decrements.size()];
+        if (decrements.isEmpty()) {
+            return applied;
+        }
+        String batchId = UUID.randomUUID().toString();
+        List<String> tokens = new ArrayList<>(decrements.size());
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ProductMongoDocument.class);
+        for (int i = 0; i < decrements.size(); i++) {
+            StockDecrement d = decrements.get(i);
+            String token = batchId + ":" + i;
+            tokens.add(token);
+            bulk.updateOne(guarded(d.productId(), d.quantity()), new Update().inc("stock", -d.quantity()).push("pendingOps", token));
+            bulk.updateOne(soldOut(d.productId()), Update.update("available", false));
+        }
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            // Lot ordonné interrompu : les mises à jour antérieures ont porté, leurs jetons sont relus ci-dessous
+            log.warn("[MongoDB-{}] Décrément par lot interrompu: {}", supplierId, e.getMessage());
+        }
+
+        Query marked = query(where("pendingOps").in(tokens));
+        marked.fields().include("pendingOps");
+        Set<String> appliedTokens = new HashSet<>();
+        mongoTemplate.find(marked, ProductMongoDocument.class).forEach(p -> appliedTokens.addAll(p.getPendingOps()));
+        mongoTemplate.updateMulti(marked, new Update().pullAll("pendingOps", tokens.toArray()), ProductMongoDocument.class);
+
+        for (int i = 0; i < applied.length; i++) {
+            applied[i] = appliedTokens.contains(tokens.get(i));
+        }
+        log.info("[MongoDB-{}] Décrément du stock par lot: {} lignes", supplierId, decrements.size());
+        return applied;
+    }
+
+    /**
+     * Deux mises à jour conditionnelles complémentaires : available ne repasse à true que si le stock
+     * d'avant était nul. Si le stock change entre les deux (vente ou restitution concurrente),
+     * aucune ne porte et on recommence ; un produit absent arrête la boucle.
+     */
+    @Override
+    public void increaseStock(String productId, int quantity) {
+        log.info("[MongoDB-{}] Réincrément du stock: produit={}, quantité={}", supplierId, productId, quantity);
+        while (true) {
+            if (mongoTemplate.updateFirst(query(where("id").is(productId).and("stock").gt(0)),
+                    new Update().inc("stock", quantity), ProductMongoDocument.class).getMatchedCount() > 0) {
+                return;
+            }
+            if (mongoTemplate.updateFirst(query(where("id").is(productId).and("stock").lte(0)),
+                    new Update().inc("stock", quantity).set("available", true), ProductMongoDocument.class).getMatchedCount() > 0) {
+                return;
+            }
+            if (!existsById(productId)) {
+                return;
+            }
+        }
+    }
+
+    private Query guarded(String productId, int quantity) {
+        return query(where("id").is(productId).and("available").is(true).and("stock").gte(quantity));
+    }
+
+    private Query soldOut(String productId) {
+        return query(where("id").is(productId).and("stock").is(0));
+    }
+
+    private List<Product> toDomain(List<ProductMongoDocument> docs) {
+        return docs.stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
+    private Product toDomain(ProductMongoDocument d) {
+        return Product.builder()
+                .id(d.getId()).name(d.getName()).description(d.getDescription())
+                .price(d.getPrice()).stock(d.getStock()).supplierId(d.getSupplierId())
+                .storeId(d.getStoreId()).category(d.getCategory()).available(d.isAvailable())
+                .build();
+    }
+
+    private ProductMongoDocument toDocument(Product p) {
+        return ProductMongoDocument.builder()
+                .id(p.getId()).name(p.getName()).description(p.getDescription())
+                .price(p.getPrice()).stock(p.getStock()).supplierId(p.getSupplierId())
+                .storeId(p.getStoreId()).category(p.getCategory()).available(p.isAvailable())
+                .build();
+    }
+}
@@ -1,9 +1,13 @@
 package com.ecommerce.infrastructure.adapter.persistence.mongo;
 
+import com.ecommerce.domain.exception.DuplicateUserException;
 import com.ecommerce.domain.model.User;
 import com.ecommerce.domain.port.output.UserRepositoryPort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -13,12 +17,27 @@ import java.util.UUID;
  *
  * Activé quand auth.repository-type=mongo dans application.yml.
  * La même interface du domaine, une implémentation différente.
+ * Les index uniques (username, email) sont créés au démarrage : l'inscription
+ * est un seul insert, un doublon est reconnu au nom de l'index violé.
  */
-@RequiredArgsConstructor
 @Slf4j
 public class MongoUserRepositoryAdapter implements UserRepositoryPort {
 
+    static final String UK_USERNAME = "uk_users_username";
+    static final String UK_EMAIL = "uk_users_email";
+
     private final UserMongoRepository mongoRepository;
+    private final MongoTemplate mongoTemplate;
+
+    public MongoUserRepositoryAdapter(UserMongoRepository mongoRepository, MongoTemplate mongoTemplate) {
+        this.mongoRepository = mongoRepository;
+        this.mongoTemplate = mongoTemplate;
+        // Sans auto-index-creation, les @Indexed du document ne sont pas appliqués
+        mongoTemplate.indexOps(UserMongoDocument.class).ensureIndex(
+                new Index("username", Sort.Direction.ASC).unique().named(UK_USERNAME));
+        mongoTemplate.indexOps(UserMongoDocument.class).ensureIndex(
+                new Index("email", Sort.Direction.ASC).unique().named(UK_EMAIL));
+    }
 
     @Override
     public Optional<User> findByUsername(String username) {
@@ -45,6 +64,22 @@ public class MongoUserRepositoryAdapter implements UserRepositoryPort {
         return toDomain(saved);
     }
 
+    @Override
+    public User create(User user) {
+        if (user.getId() == null) {
+            user.setId(UUID.randomUUID().toString());
+        }
+        try {
+            return toDomain(mongoTemplate.insert(toDocument(user)));
+        } catch (DuplicateKeyException e) {
+            // E11000 duplicate key error collection: ... index: uk_users_email dup key: ...
+            String message = String.valueOf(e.getMessage());
+            if (message.contains(UK_USERNAME)) throw new DuplicateUserException(DuplicateUserException.Field.USERNAME);
+            if (message.contains(UK_EMAIL)) throw new DuplicateUserException(DuplicateUserException.Field.EMAIL);
+            throw e;
+        }
+    }
+
     @Override
     public boolean existsByUsername(String username) {
         return mongoRepository.existsByUsername(username);
@@ -0,0 +1,51 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import com.ecommerce.domain.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ADAPTATEUR PERSISTENCE - Document MongoDB d'une commande.
+ * Les lignes sont embarquées : une commande se lit en un seul accès, sans jointure.
+ */
+@Document(collection = "orders")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderMongoDocument {
+
+    @Id
+    private String id;
+
+    private String customerId;
+    private List<Line> items;
+    private Order.OrderStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String shippingAddress;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private String productId;
+        private String productName;
+        private String supplierId;
+        private int quantity;
+
+        @Field(targetType = FieldType.DECIMAL128)
+        private BigDecimal unitPrice;
+    }
+}
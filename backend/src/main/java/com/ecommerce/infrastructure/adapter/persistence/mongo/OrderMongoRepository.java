@@ -0,0 +1,12 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Spring Data MongoDB Repository - Infrastructure uniquement.
+ */
+public interface OrderMongoRepository extends MongoRepository<OrderMongoDocument, String> {
+    List<OrderMongoDocument> findByCustomerId(String customerId);
+}
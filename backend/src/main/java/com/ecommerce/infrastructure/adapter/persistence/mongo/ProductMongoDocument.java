@@ -0,0 +1,43 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * ADAPTATEUR PERSISTENCE - Document MongoDB d'un produit.
+ * Le prix est stocké en Decimal128 pour que les filtres de prix comparent des nombres.
+ */
+@Document(collection = "products")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductMongoDocument {
+
+    @Id
+    private String id;
+
+    private String name;
+    private String description;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal price;
+
+    private int stock;
+    private String supplierId;
+    private String storeId;
+    private String category;
+    private boolean available;
+
+    /** Jetons des décréments par lot appliqués à ce produit (retirés juste après lecture). */
+    private List<String> pendingOps;
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ReactiveProductQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * ADAPTATEUR - Lectures réactives du catalogue avec le driver MongoDB Reactive Streams.
+ *
+ * Même collection que MongoProductRepositoryAdapter ; le curseur est lu par lots
+ * à mesure que l'abonné demande des produits.
+ */
+@RequiredArgsConstructor
+public class ReactiveMongoProductQueryAdapter implements ReactiveProductQueryPort {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Flux<Product> findAll() {
+        return mongoTemplate.findAll(ProductMongoDocument.class).map(this::toDomain);
+    }
+
+    @Override
+    public Mono<Product> findById(String productId) {
+        return mongoTemplate.findById(productId, ProductMongoDocument.class).map(this::toDomain);
+    }
+
+    @Override
+    public Flux<Product> findBySupplierId(String supplierId) {
+        return mongoTemplate.find(query(where("supplierId").is(supplierId)), ProductMongoDocument.class).map(this::toDomain);
+    }
+
+    @Override
+    public Flux<Product> findByCategory(String category) {
+        return mongoTemplate.find(query(where("category").is(category)), ProductMongoDocument.class).map(this::toDomain);
+    }
+
+    private Product toDomain(ProductMongoDocument d) {
+        return Product.builder()
+                .id(d.getId()).name(d.getName()).description(d.getDescription())
+                .price(d.getPrice()).stock(d.getStock()).supplierId(d.getSupplierId())
+                .storeId(d.getStoreId()).category(d.getCategory()).available(d.isAvailable())
+                .build();
+    }
+}
@@ -23,10 +23,10 @@ public class UserMongoDocument {
     @Id
     private String id;
 
-    @Indexed(unique = true)
+    @Indexed(unique = true, name = MongoUserRepositoryAdapter.UK_USERNAME)
     private String username;
 
-    @Indexed(unique = true)
+    @Indexed(unique = true, name = MongoUserRepositoryAdapter.UK_EMAIL)
     private String email;
 
     private String password;
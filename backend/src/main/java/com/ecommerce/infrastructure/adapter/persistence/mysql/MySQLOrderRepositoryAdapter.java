@@ -1,11 +1,18 @@
 package com.ecommerce.infrastructure.adapter.persistence.mysql;
 
+import com.ecommerce.domain.model.CursorPage;
 import com.ecommerce.domain.model.Order;
 import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderSummary;
 import com.ecommerce.domain.port.output.OrderRepositoryPort;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,7 +28,7 @@ public class MySQLOrderRepositoryAdapter implements OrderRepositoryPort {
 
     @Override
     public Optional<Order> findById(String orderId) {
-        return jpaRepository.findById(orderId).map(this::toDomain);
+        return jpaRepository.findWithItemsById(orderId).map(this::toDomain);
     }
 
     @Override
@@ -29,6 +36,25 @@ public class MySQLOrderRepositoryAdapter implements OrderRepositoryPort {
         return jpaRepository.findByCustomerId(customerId).stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<OrderSummary> findSummariesByCustomerId(String customerId, String cursor, int limit) {
+        // Un élément de plus pour savoir s'il existe une page suivante
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<OrderSummaryRow> rows;
+        if (cursor == null) {
+            rows = jpaRepository.findSummaries(customerId, pageable);
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = jpaRepository.findSummariesBefore(customerId, LocalDateTime.parse(position[0]), position[1], pageable);
+        }
+        boolean hasNext = rows.size() > limit;
+        List<OrderSummary> items = rows.stream().limit(limit)
+                .map(r -> new OrderSummary(r.id(), r.status(), r.createdAt(), r.itemCount(), r.total()))
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
     @Override
     public List<Order> findAll() {
         return jpaRepository.findAll().stream().map(this::toDomain).collect(Collectors.toList());
@@ -45,6 +71,24 @@ public class MySQLOrderRepositoryAdapter implements OrderRepositoryPort {
         jpaRepository.deleteById(orderId);
     }
 
+    // --- Curseur opaque : base64url("createdAt|id") ---
+
+    private String encodeCursor(OrderSummary last) {
+        String raw = last.createdAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (position.length != 2) throw new IllegalArgumentException();
+            LocalDateTime.parse(position[0]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide: " + cursor);
+        }
+    }
+
     private Order toDomain(OrderJpaEntity e) {
         List<OrderItem> items = e.getItems() == null ? List.of() : e.getItems().stream()
                 .map(i -> OrderItem.builder()
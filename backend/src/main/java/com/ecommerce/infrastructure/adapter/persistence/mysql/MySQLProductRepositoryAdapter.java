@@ -1,15 +1,24 @@
 package com.ecommerce.infrastructure.adapter.persistence.mysql;
 
+import com.ecommerce.domain.model.CursorPage;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
 import com.ecommerce.domain.port.output.ProductRepositoryPort;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaEntity;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaRepository;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductRow;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +42,16 @@ public class MySQLProductRepositoryAdapter implements ProductRepositoryPort {
         return jpaRepository.findAll().stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        jpaRepository.forEachProduct(row -> action.accept(toDomain(row)));
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<String> productIds) {
+        return jpaRepository.findAllById(productIds).stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
     @Override
     public List<Product> findBySupplierId(String supplierId) {
         return jpaRepository.findBySupplierId(supplierId).stream().map(this::toDomain).collect(Collectors.toList());
@@ -43,6 +62,18 @@ public class MySQLProductRepositoryAdapter implements ProductRepositoryPort {
         return jpaRepository.findByCategory(category).stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<Product> findPage(ProductSearchCriteria criteria) {
+        int limit = criteria.getLimit();
+        // On lit un élément de plus pour savoir s'il existe une page suivante, sans COUNT
+        List<ProductJpaEntity> rows = jpaRepository.findBy(toSpecification(criteria),
+                q -> q.sortBy(Sort.by("id")).limit(limit + 1).all());
+        boolean hasNext = rows.size() > limit;
+        List<Product> items = rows.stream().limit(limit).map(this::toDomain).collect(Collectors.toList());
+        String nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
     @Override
     public Product save(Product product) {
         if (product.getId() == null) {
@@ -67,6 +98,40 @@ public class MySQLProductRepositoryAdapter implements ProductRepositoryPort {
         jpaRepository.updateStock(productId, newStock);
     }
 
+    @Override
+    public boolean decreaseStockIfAvailable(String productId, int quantity) {
+        boolean decreased = jpaRepository.decreaseStockIfAvailable(productId, quantity) == 1;
+        log.info("[MySQL-{}] Décrément du stock: produit={}, quantité={}, succès={}",
+                supplierId, productId, quantity, decreased);
+        return decreased;
+    }
+
+    @Override
+    public boolean[] decreaseStockBatch(List<StockDecrement> decrements) {
+        boolean[] applied = jpaRepository.decreaseStockBatch(decrements);
+        log.info("[MySQL-{}] Décrément du stock par lot: {} lignes", supplierId, decrements.size());
+        return applied;
+    }
+
+    @Override
+    public void increaseStock(String productId, int quantity) {
+        log.info("[MySQL-{}] Réincrément du stock: produit={}, quantité={}", supplierId, productId, quantity);
+        jpaRepository.increaseStock(productId, quantity);
+    }
+
+    private Specification<ProductJpaEntity> toSpecification(ProductSearchCriteria c) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (c.getCursor() != null) predicates.add(cb.greaterThan(root.get("id"), c.getCursor()));
+            if (c.getSupplierId() != null) predicates.add(cb.equal(root.get("supplierId"), c.getSupplierId()));
+            if (c.getCategory() != null) predicates.add(cb.equal(root.get("category"), c.getCategory()));
+            if (c.getMinPrice() != null) predicates.add(cb.greaterThanOrEqualTo(root.get("price"), c.getMinPrice()));
+            if (c.getMaxPrice() != null) predicates.add(cb.lessThanOrEqualTo(root.get("price"), c.getMaxPrice()));
+            if (c.getAvailable() != null) predicates.add(cb.equal(root.get("available"), c.getAvailable()));
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
     private Product toDomain(ProductJpaEntity e) {
         return Product.builder()
                 .id(e.getId()).name(e.getName()).description(e.getDescription())
@@ -75,6 +140,14 @@ public class MySQLProductRepositoryAdapter implements ProductRepositoryPort {
                 .build();
     }
 
+    private Product toDomain(ProductRow r) {
+        return Product.builder()
+                .id(r.id()).name(r.name()).description(r.description())
+                .price(r.price()).stock(r.stock()).supplierId(r.supplierId())
+                .storeId(r.storeId()).category(r.category()).available(r.available())
+                .build();
+    }
+
     private ProductJpaEntity toEntity(Product p) {
         return ProductJpaEntity.builder()
                 .id(p.getId()).name(p.getName()).description(p.getDescription())
@@ -1,11 +1,13 @@
 package com.ecommerce.infrastructure.adapter.persistence.mysql;
 
+import com.ecommerce.domain.exception.DuplicateUserException;
 import com.ecommerce.domain.model.User;
 import com.ecommerce.domain.port.output.UserRepositoryPort;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.UserJpaEntity;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -47,6 +49,27 @@ public class MySQLUserRepositoryAdapter implements UserRepositoryPort {
         return toDomain(saved);
     }
 
+    /**
+     * Un seul INSERT (persist) ; les doublons sont signalés par les contraintes uniques
+     * nommées de la table users, reconnues dans le message du driver.
+     */
+    @Override
+    public User create(User user) {
+        if (user.getId() == null) {
+            user.setId(UUID.randomUUID().toString());
+        }
+        UserJpaEntity entity = toEntity(user);
+        entity.setNewEntity(true);
+        try {
+            return toDomain(jpaRepository.saveAndFlush(entity));
+        } catch (DataIntegrityViolationException e) {
+            String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+            if (cause.contains(UserJpaEntity.UK_USERNAME)) throw new DuplicateUserException(DuplicateUserException.Field.USERNAME);
+            if (cause.contains(UserJpaEntity.UK_EMAIL)) throw new DuplicateUserException(DuplicateUserException.Field.EMAIL);
+            throw e;
+        }
+    }
+
     @Override
     public boolean existsByUsername(String username) {
         return jpaRepository.existsByUsername(username);
@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.adapter.persistence.mysql.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ADAPTATEUR PERSISTENCE - Clé d'idempotence d'une commande déjà créée.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_created", columnList = "created_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyJpaEntity {
+
+    @Id
+    @Column(name = "idempotency_key", length = 400)
+    private String key;  // "customerId:clé"
+
+    @Column(name = "fingerprint", nullable = false, length = 36)
+    private String fingerprint;
+
+    @Column(name = "order_id", nullable = false, length = 36)
+    private String orderId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
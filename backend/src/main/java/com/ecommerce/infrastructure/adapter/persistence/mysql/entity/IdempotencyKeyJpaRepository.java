@@ -0,0 +1,19 @@
+package com.ecommerce.infrastructure.adapter.persistence.mysql.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+
+    /**
+     * Purge des clés expirées, servie par l'index sur created_at.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_customer_created", columnList = "customer_id, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -25,7 +27,7 @@ public class OrderJpaEntity {
     @Column(name = "customer_id", nullable = false, length = 36)
     private String customerId;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private List<OrderItemJpaEntity> items;
 
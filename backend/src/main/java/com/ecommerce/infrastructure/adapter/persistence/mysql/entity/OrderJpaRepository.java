@@ -1,8 +1,50 @@
 package com.ecommerce.infrastructure.adapter.persistence.mysql.entity;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, String> {
+
+    @EntityGraph(attributePaths = "items")
     List<OrderJpaEntity> findByCustomerId(String customerId);
+
+    @Override
+    @EntityGraph(attributePaths = "items")
+    List<OrderJpaEntity> findAll();
+
+    /**
+     * Commande complète en une seule requête (fetch join sur les lignes).
+     */
+    @Query("SELECT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items WHERE o.id = :orderId")
+    Optional<OrderJpaEntity> findWithItemsById(String orderId);
+
+    /**
+     * Première page de l'historique : plus récentes d'abord, total calculé en SQL.
+     */
+    @Query("SELECT new com.ecommerce.infrastructure.adapter.persistence.mysql.entity.OrderSummaryRow("
+            + "o.id, o.status, o.createdAt, COUNT(i), COALESCE(SUM(i.unitPrice * i.quantity), 0)) "
+            + "FROM OrderJpaEntity o LEFT JOIN o.items i "
+            + "WHERE o.customerId = :customerId "
+            + "GROUP BY o.id, o.status, o.createdAt "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryRow> findSummaries(String customerId, Pageable pageable);
+
+    /**
+     * Pages suivantes : keyset sur (created_at, id), servi par l'index (customer_id, created_at).
+     */
+    @Query("SELECT new com.ecommerce.infrastructure.adapter.persistence.mysql.entity.OrderSummaryRow("
+            + "o.id, o.status, o.createdAt, COUNT(i), COALESCE(SUM(i.unitPrice * i.quantity), 0)) "
+            + "FROM OrderJpaEntity o LEFT JOIN o.items i "
+            + "WHERE o.customerId = :customerId "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId)) "
+            + "GROUP BY o.id, o.status, o.createdAt "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryRow> findSummariesBefore(String customerId, LocalDateTime createdAt, String orderId,
+                                              Pageable pageable);
 }
@@ -0,0 +1,13 @@
+package com.ecommerce.infrastructure.adapter.persistence.mysql.entity;
+
+import com.ecommerce.domain.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection JPQL (constructor expression) d'une commande sans ses lignes.
+ */
+public record OrderSummaryRow(String id, Order.OrderStatus status, LocalDateTime createdAt,
+                              Long itemCount, BigDecimal total) {
+}
@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_supplier_id", columnList = "supplier_id"),
+        @Index(name = "idx_products_category", columnList = "category")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,18 +1,84 @@
 package com.ecommerce.infrastructure.adapter.persistence.mysql.entity;
 
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, String> {
+public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, String>,
+        JpaSpecificationExecutor<ProductJpaEntity> {
     List<ProductJpaEntity> findBySupplierId(String supplierId);
     List<ProductJpaEntity> findByCategory(String category);
 
+    /**
+     * Tout le catalogue, lu par paquets de 500 lignes. Projection vers ProductRow :
+     * rien n'est attaché au contexte de persistance, qui ne grossit donc pas pendant le parcours.
+     * MySQL n'applique la taille de paquet qu'avec useCursorFetch=true dans l'URL JDBC ;
+     * sans cette option le pilote charge tout le résultat en mémoire.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductRow("
+            + "p.id, p.name, p.description, p.price, p.stock, p.supplierId, p.storeId, p.category, p.available) "
+            + "FROM ProductJpaEntity p")
+    Stream<ProductRow> streamAll();
+
+    /**
+     * Le Stream JPA n'est lisible que dans une transaction ouverte : elle couvre tout le parcours.
+     */
+    @Transactional(readOnly = true)
+    default void forEachProduct(Consumer<ProductRow> action) {
+        try (Stream<ProductRow> products = streamAll()) {
+            products.forEach(action);
+        }
+    }
+
     @Transactional
     @Modifying
     @Query("UPDATE ProductJpaEntity p SET p.stock = :stock WHERE p.id = :productId")
     void updateStock(String productId, int stock);
+
+    /**
+     * UPDATE conditionnel : la garde sur le stock est évaluée par la base,
+     * deux commandes concurrentes ne peuvent donc pas vendre la même unité.
+     * Le produit devient indisponible quand le stock atteint zéro.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductJpaEntity p SET p.available = CASE WHEN p.stock > :quantity THEN true ELSE false END, "
+            + "p.stock = p.stock - :quantity "
+            + "WHERE p.id = :productId AND p.available = true AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(String productId, int quantity);
+
+    /**
+     * Tous les décréments dans une seule transaction : un aller-retour de commit par lot.
+     */
+    @Transactional
+    default boolean[] decreaseStockBatch(List<ProductRepositoryPort.StockDecrement> decrements) {
+        boolean[] applied = new boolean[decrements.size()];
+        for (int i = 0; i < applied.length; i++) {
+            ProductRepositoryPort.StockDecrement d = decrements.get(i);
+            applied[i] = decreaseStockIfAvailable(d.productId(), d.quantity()) == 1;
+        }
+        return applied;
+    }
+
+    /**
+     * Le produit ne redevient disponible que s'il était épuisé (stock à zéro, rendu indisponible
+     * par le décrément) : un produit désactivé par un admin avec du stock le reste.
+     * available est affecté en premier : MySQL évalue les affectations dans l'ordre, sur les valeurs déjà modifiées.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductJpaEntity p SET p.available = CASE WHEN p.stock = 0 THEN true ELSE p.available END, "
+            + "p.stock = p.stock + :quantity WHERE p.id = :productId")
+    int increaseStock(String productId, int quantity);
 }
@@ -0,0 +1,11 @@
+package com.ecommerce.infrastructure.adapter.persistence.mysql.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection JPQL (constructor expression) d'un produit, pour les parcours en flux :
+ * pas d'entité gérée, et le constructeur du modèle de domaine n'est pas lié à la requête.
+ */
+public record ProductRow(String id, String name, String description, BigDecimal price, int stock,
+                         String supplierId, String storeId, String category, boolean available) {
+}
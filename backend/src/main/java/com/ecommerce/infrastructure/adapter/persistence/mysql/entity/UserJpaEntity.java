@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.util.Set;
 
@@ -13,23 +14,34 @@ import java.util.Set;
  *
  * Cette classe contient les annotations JPA spécifiques à MySQL.
  * Elle est convertie en/depuis le modèle domaine User grâce à un Mapper.
+ *
+ * Contraintes d'unicité nommées : l'adaptateur reconnaît la colonne en conflit
+ * au nom de la contrainte violée. Persistable : une entité marquée nouvelle est
+ * insérée directement (persist), sans le SELECT préalable d'un merge.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = UserJpaEntity.UK_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = UserJpaEntity.UK_EMAIL, columnNames = "email")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserJpaEntity {
+public class UserJpaEntity implements Persistable<String> {
+
+    public static final String UK_USERNAME = "uk_users_username";
+    public static final String UK_EMAIL = "uk_users_email";
+
 
     @Id
     @Column(name = "id", length = 36)
     private String id;
 
-    @Column(name = "username", unique = true, nullable = false, length = 100)
+    @Column(name = "username", nullable = false, length = 100)
     private String username;
 
-    @Column(name = "email", unique = true, nullable = false, length = 255)
+    @Column(name = "email", nullable = false, length = 255)
     private String email;
 
     @Column(name = "password", nullable = false)
@@ -42,4 +54,12 @@ public class UserJpaEntity {
 
     @Column(name = "active", nullable = false)
     private boolean active;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
 }
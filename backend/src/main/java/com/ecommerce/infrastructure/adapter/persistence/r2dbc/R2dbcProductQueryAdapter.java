@@ -0,0 +1,69 @@
+package com.ecommerce.infrastructure.adapter.persistence.r2dbc;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ReactiveProductQueryPort;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * ADAPTATEUR - Lectures réactives du catalogue en R2DBC (r2dbc-mysql ; r2dbc-h2 en dev).
+ *
+ * Même table que MySQLProductRepositoryAdapter. Les lignes sont émises au fil de la demande
+ * de l'abonné, sans liste intermédiaire ni thread bloqué pendant l'aller-retour avec la base.
+ * Pool de connexions propre, fermé avec l'adaptateur.
+ */
+public class R2dbcProductQueryAdapter implements ReactiveProductQueryPort, AutoCloseable {
+
+    private static final String SELECT = "SELECT id, name, description, price, stock, supplier_id, store_id, "
+            + "category, available FROM products";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public R2dbcProductQueryAdapter(ConnectionPool pool) {
+        this.pool = pool;
+        this.client = DatabaseClient.create(pool);
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return client.sql(SELECT).map(this::toDomain).all();
+    }
+
+    @Override
+    public Mono<Product> findById(String productId) {
+        return client.sql(SELECT + " WHERE id = :id").bind("id", productId).map(this::toDomain).one();
+    }
+
+    @Override
+    public Flux<Product> findBySupplierId(String supplierId) {
+        return client.sql(SELECT + " WHERE supplier_id = :supplierId").bind("supplierId", supplierId)
+                .map(this::toDomain).all();
+    }
+
+    @Override
+    public Flux<Product> findByCategory(String category) {
+        return client.sql(SELECT + " WHERE category = :category").bind("category", category)
+                .map(this::toDomain).all();
+    }
+
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+
+    private Product toDomain(Readable row) {
+        return Product.builder()
+                .id(row.get("id", String.class)).name(row.get("name", String.class))
+                .description(row.get("description", String.class)).price(row.get("price", BigDecimal.class))
+                .stock(row.get("stock", Integer.class)).supplierId(row.get("supplier_id", String.class))
+                .storeId(row.get("store_id", String.class)).category(row.get("category", String.class))
+                .available(Boolean.TRUE.equals(row.get("available", Boolean.class)))
+                .build();
+    }
+}
@@ -0,0 +1,582 @@
+package com.ecommerce.infrastructure.adapter.search;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductSearchPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ADAPTATEUR - Index inversé du catalogue, tenu en mémoire.
+ *
+ * Chaque produit reçoit un numéro de document ; chaque mot (nom, description, catégorie)
+ * pointe vers la liste triée des documents qui le contiennent. Une entrée est un int :
+ * numéro de document dans les bits de poids fort, champs où le mot apparaît dans les 3 bits
+ * de poids faible. Les débuts de mots (3 à 12 lettres) du nom et de la catégorie ont leurs
+ * propres listes, pour la saisie incrémentale.
+ *
+ * Une requête avance en parallèle dans les listes de ses mots (intersection par sauts,
+ * en partant de la plus courte) et garde les offset + limit meilleurs scores dans un tas.
+ * Score : somme, pour chaque mot, de son idf pondéré par les champs touchés (nom 3,
+ * catégorie 2, description 1), divisé par deux pour un simple début de mot.
+ * Chaque liste retient le meilleur poids de chacun de ses blocs de 64 entrées : une fois
+ * le tas plein, les blocs qui ne peuvent plus battre son minimum sont sautés sans être lus
+ * (un mot présent dans un tiers du catalogue ne parcourt plus toute sa liste).
+ *
+ * Mise à jour incrémentale par IndexingProductRepositoryAdapter : un produit réindexé
+ * reçoit un nouveau numéro (les listes restent triées par simple ajout en fin), l'ancien
+ * devient une tombe ignorée par les requêtes. Les tombes sont purgées quand elles dépassent
+ * les documents vivants. Métrique exposée : products.search.indexed.
+ *
+ * Pendant un chargement (ProductIndexLoader), les produits retirés sont notés : leur copie
+ * lue avant la suppression n'est pas réinstallée.
+ */
+@Component
+@Slf4j
+public class InMemoryProductSearchAdapter implements ProductSearchPort {
+
+    static final int NAME = 1;
+    static final int CATEGORY = 2;
+    static final int DESCRIPTION = 4;
+
+    private static final int FIELD_BITS = 3;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    private static final int MAX_DOCS = Integer.MAX_VALUE >>> FIELD_BITS;
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_LENGTH = 12;
+    private static final float PREFIX_WEIGHT = 0.5f;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+    private static final int BLOCK_BITS = 6;   // blocs de 64 entrées
+    private static final SearchResult NO_RESULT = new SearchResult(List.of(), false);
+
+    /** Poids d'une entrée selon la combinaison de champs où le mot apparaît. */
+    private static final byte[] FIELD_WEIGHTS = new byte[1 << FIELD_BITS];
+
+    static {
+        for (int fields = 0; fields < FIELD_WEIGHTS.length; fields++) {
+            FIELD_WEIGHTS[fields] = (byte) (((fields & NAME) != 0 ? 3 : 0)
+                    + ((fields & CATEGORY) != 0 ? 2 : 0)
+                    + ((fields & DESCRIPTION) != 0 ? 1 : 0));
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> words = new HashMap<>();
+    private final Map<String, Postings> prefixes = new HashMap<>();
+    private final Map<String, Integer> docByProduct = new HashMap<>();
+    private String[] productIds = new String[1024];   // null : tombe
+    private String[] supplierIds = new String[1024];
+    private int docCount;
+    private int liveDocs;
+    /** Numéro du dernier retrait de chaque produit, tant qu'un chargement est ouvert. */
+    private final Map<String, Long> removedDuringLoads = new HashMap<>();
+    private long removals;
+    private int openLoads;
+
+    public InMemoryProductSearchAdapter(MeterRegistry meterRegistry) {
+        Gauge.builder("products.search.indexed", this, InMemoryProductSearchAdapter::size)
+                .description("Produits présents dans l'index de recherche")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indexe un produit, ou le réindexe s'il l'était déjà.
+     */
+    public void index(Product product) {
+        write(product, false, 0);
+    }
+
+    /**
+     * Ouvre un chargement : à appeler avant de lire les produits à passer à indexIfAbsent.
+     *
+     * @return repère à passer à indexIfAbsent
+     */
+    public long startLoad() {
+        lock.writeLock().lock();
+        try {
+            openLoads++;
+            return removals;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void endLoad() {
+        lock.writeLock().lock();
+        try {
+            if (--openLoads == 0) {
+                removedDuringLoads.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexe un produit lu pendant un chargement, sauf s'il l'est déjà : une écriture concurrente,
+     * plus récente, ne doit pas être écrasée par cette copie.
+     *
+     * @param since repère rendu par startLoad avant la lecture du produit
+     * @return false si le produit a été retiré depuis : la copie est périmée, à relire
+     */
+    public boolean indexIfAbsent(Product product, long since) {
+        return write(product, true, since);
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            if (openLoads > 0) {
+                removedDuringLoads.put(productId, ++removals);
+            }
+            Integer doc = docByProduct.remove(productId);
+            if (doc != null) {
+                bury(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> tokens = ProductTextAnalyzer.words(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return NO_RESULT;
+        }
+        // Saisie en cours : le dernier mot peut être incomplet, sauf si la requête finit par un espace
+        boolean lastIsPrefix = !Character.isWhitespace(query.charAt(query.length() - 1));
+        int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+
+        lock.readLock().lock();
+        try {
+            TermCursor[] cursors = new TermCursor[tokens.size()];
+            for (int i = 0; i < cursors.length; i++) {
+                String token = tokens.get(i);
+                Postings exact = words.get(token);
+                Postings prefix = i == cursors.length - 1 && lastIsPrefix ? prefixes.get(token) : null;
+                if (exact == null && prefix == null) {
+                    return NO_RESULT;
+                }
+                cursors[i] = new TermCursor(exact, idf(exact), prefix, idf(prefix) * PREFIX_WEIGHT);
+            }
+            Arrays.sort(cursors, Comparator.comparingLong(TermCursor::length));
+
+            TopDocs top = new TopDocs(Math.max(1, Math.min(wanted, liveDocs)));
+            int matches = collect(cursors, top, wanted);
+            int[] ranked = top.ranked();
+            List<Hit> hits = new ArrayList<>(Math.max(0, Math.min(limit, ranked.length - offset)));
+            for (int i = offset; i < ranked.length; i++) {
+                hits.add(new Hit(productIds[ranked[i]], supplierIds[ranked[i]]));
+            }
+            return new SearchResult(hits, matches > wanted);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intersection : le mot le plus rare mène, les autres sautent directement à son document
+     * (ou le font sauter au leur). Renvoie le nombre de documents vivants trouvés, exact
+     * jusqu'à wanted + 1 : au-delà, les blocs sans espoir ne sont plus comptés.
+     */
+    private int collect(TermCursor[] cursors, TopDocs top, int wanted) {
+        TermCursor lead = cursors[0];
+        float othersMax = 0f;
+        for (int i = 1; i < cursors.length; i++) {
+            othersMax += cursors[i].maxScore();
+        }
+        int matches = 0;
+        int target = 0;
+        int boundEnd = -1;
+        float bound = 0f;
+        candidates:
+        while (lead.advance(target)) {
+            int doc = lead.doc;
+            // Tas plein et suite déjà établie : un document du bloc courant ne peut entrer
+            // que s'il dépasse strictement le minimum (à égalité, le plus ancien reste devant)
+            if (matches > wanted) {
+                if (doc > boundEnd) {
+                    boundEnd = lead.blockEnd();
+                    bound = lead.blockMaxScore() + othersMax;
+                }
+                if (bound <= top.minScore()) {
+                    target = boundEnd + 1;
+                    continue;
+                }
+            }
+            target = doc + 1;
+            float score = lead.score;
+            for (int i = 1; i < cursors.length; i++) {
+                if (!cursors[i].advance(doc)) {
+                    break candidates;
+                }
+                if (cursors[i].doc != doc) {
+                    target = cursors[i].doc;
+                    continue candidates;
+                }
+                score += cursors[i].score;
+            }
+            if (productIds[doc] != null) {
+                matches++;
+                top.offer(score, doc);
+            }
+        }
+        return matches;
+    }
+
+    private float idf(Postings postings) {
+        return postings == null ? 0f : (float) Math.log(1 + (double) Math.max(liveDocs, 1) / postings.size);
+    }
+
+    private boolean write(Product product, boolean ifAbsent, long since) {
+        Map<String, Integer> wordFields = new HashMap<>();
+        Map<String, Integer> prefixFields = new HashMap<>();
+        analyze(product.getName(), NAME, wordFields, prefixFields);
+        analyze(product.getCategory(), CATEGORY, wordFields, prefixFields);
+        analyze(product.getDescription(), DESCRIPTION, wordFields, null);
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByProduct.get(product.getId());
+            if (previous != null) {
+                if (ifAbsent) {
+                    return true;
+                }
+                bury(previous);
+            } else if (ifAbsent) {
+                Long removed = removedDuringLoads.get(product.getId());
+                if (removed != null && removed > since) {
+                    return false;
+                }
+            }
+            if (docCount == MAX_DOCS) {
+                compact();
+            }
+            int doc = docCount++;
+            if (doc == productIds.length) {
+                productIds = Arrays.copyOf(productIds, doc * 2);
+                supplierIds = Arrays.copyOf(supplierIds, doc * 2);
+            }
+            productIds[doc] = product.getId();
+            supplierIds[doc] = product.getSupplierId();
+            docByProduct.put(product.getId(), doc);
+            liveDocs++;
+            wordFields.forEach((word, fields) -> words.computeIfAbsent(word, w -> new Postings()).add(doc << FIELD_BITS | fields));
+            prefixFields.forEach((prefix, fields) -> prefixes.computeIfAbsent(prefix, p -> new Postings()).add(doc << FIELD_BITS | fields));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void analyze(String text, int field, Map<String, Integer> wordFields, Map<String, Integer> prefixFields) {
+        for (String word : ProductTextAnalyzer.words(text)) {
+            wordFields.merge(word, field, (a, b) -> a | b);
+            if (prefixFields != null) {
+                for (int length = MIN_PREFIX_LENGTH; length < word.length() && length <= MAX_PREFIX_LENGTH; length++) {
+                    prefixFields.merge(word.substring(0, length), field, (a, b) -> a | b);
+                }
+            }
+        }
+    }
+
+    private void bury(int doc) {
+        productIds[doc] = null;
+        supplierIds[doc] = null;
+        liveDocs--;
+        int tombstones = docCount - liveDocs;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > liveDocs) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumérote les documents vivants de façon dense et purge les tombes de toutes les listes.
+     * La renumérotation conserve l'ordre : les listes restent triées sans tri. Appelé sous verrou d'écriture.
+     */
+    private void compact() {
+        int[] renumbered = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (productIds[doc] != null) {
+                renumbered[doc] = next;
+                productIds[next] = productIds[doc];
+                supplierIds[next] = supplierIds[doc];
+                docByProduct.put(productIds[next], next);
+                next++;
+            } else {
+                renumbered[doc] = -1;
+            }
+        }
+        Arrays.fill(productIds, next, docCount, null);
+        Arrays.fill(supplierIds, next, docCount, null);
+        log.debug("Index de recherche compacté: {} documents, {} tombes purgées", next, docCount - next);
+        docCount = next;
+        purge(words, renumbered);
+        purge(prefixes, renumbered);
+    }
+
+    private static void purge(Map<String, Postings> lists, int[] renumbered) {
+        for (Iterator<Postings> it = lists.values().iterator(); it.hasNext(); ) {
+            Postings postings = it.next();
+            postings.renumber(renumbered);
+            if (postings.size == 0) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Liste des entrées d'un mot, triée par numéro de document croissant,
+     * avec le meilleur poids de chaque bloc et de toute la liste.
+     */
+    private static final class Postings {
+        private int[] entries = new int[2];
+        private byte[] blockMax = new byte[1];
+        private int size;
+        private byte max;
+
+        void add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size + (size >> 1) + 1);
+            }
+            int block = size >>> BLOCK_BITS;
+            if (block == blockMax.length) {
+                blockMax = Arrays.copyOf(blockMax, block * 2);
+            }
+            byte weight = FIELD_WEIGHTS[entry & FIELD_MASK];
+            if (weight > blockMax[block]) blockMax[block] = weight;
+            if (weight > max) max = weight;
+            entries[size++] = entry;
+        }
+
+        void renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[entries[i] >>> FIELD_BITS];
+                if (doc >= 0) {
+                    entries[kept++] = doc << FIELD_BITS | (entries[i] & FIELD_MASK);
+                }
+            }
+            size = kept;
+            if (kept < entries.length >> 1) {
+                entries = Arrays.copyOf(entries, Math.max(kept, 2));
+            }
+            blockMax = new byte[Math.max(1, (kept + (1 << BLOCK_BITS) - 1) >>> BLOCK_BITS)];
+            for (int i = 0; i < kept; i++) {
+                byte weight = FIELD_WEIGHTS[entries[i] & FIELD_MASK];
+                if (weight > blockMax[i >>> BLOCK_BITS]) blockMax[i >>> BLOCK_BITS] = weight;
+            }
+        }
+    }
+
+    /**
+     * Curseur sur un mot de la requête : sa liste exacte et, pour le dernier mot, la liste
+     * des mots qui commencent par lui. Sur un document présent dans les deux, le meilleur score l'emporte.
+     */
+    private static final class TermCursor {
+        private static final int[] NONE = new int[0];
+        private static final int LINEAR_PROBES = 16;
+
+        private final int[] exact;
+        private final byte[] exactBlocks;
+        private final int exactSize;
+        private final float exactIdf;
+        private final int[] prefix;
+        private final byte[] prefixBlocks;
+        private final int prefixSize;
+        private final float prefixIdf;
+        private final float maxScore;
+        private int exactPos;
+        private int prefixPos;
+        int doc;
+        float score;
+
+        TermCursor(Postings exact, float exactIdf, Postings prefix, float prefixIdf) {
+            this.exact = exact == null ? NONE : exact.entries;
+            this.exactBlocks = exact == null ? null : exact.blockMax;
+            this.exactSize = exact == null ? 0 : exact.size;
+            this.exactIdf = exactIdf;
+            this.prefix = prefix == null ? NONE : prefix.entries;
+            this.prefixBlocks = prefix == null ? null : prefix.blockMax;
+            this.prefixSize = prefix == null ? 0 : prefix.size;
+            this.prefixIdf = prefixIdf;
+            this.maxScore = Math.max(exact == null ? 0f : exactIdf * exact.max, prefix == null ? 0f : prefixIdf * prefix.max);
+        }
+
+        /** Meilleur score possible sur toute la liste. */
+        float maxScore() {
+            return maxScore;
+        }
+
+        /** Dernier document couvert par blockMaxScore() : fin du bloc courant de chaque liste. */
+        int blockEnd() {
+            return Math.min(lastDocOfBlock(exact, exactPos, exactSize), lastDocOfBlock(prefix, prefixPos, prefixSize));
+        }
+
+        /** Meilleur score possible jusqu'à blockEnd() (mêmes opérations que score, donc comparable sans marge). */
+        float blockMaxScore() {
+            float exactMax = exactPos < exactSize ? exactIdf * exactBlocks[exactPos >>> BLOCK_BITS] : 0f;
+            float prefixMax = prefixPos < prefixSize ? prefixIdf * prefixBlocks[prefixPos >>> BLOCK_BITS] : 0f;
+            return Math.max(exactMax, prefixMax);
+        }
+
+        private static int lastDocOfBlock(int[] entries, int pos, int size) {
+            if (pos >= size) {
+                return Integer.MAX_VALUE - 1;
+            }
+            return entries[Math.min(((pos >>> BLOCK_BITS) + 1) << BLOCK_BITS, size) - 1] >>> FIELD_BITS;
+        }
+
+        long length() {
+            return (long) exactSize + prefixSize;
+        }
+
+        /**
+         * Se place sur le premier document >= target ; faux si les listes sont épuisées.
+         */
+        boolean advance(int target) {
+            int key = target << FIELD_BITS;
+            if (prefixSize == 0) {
+                exactPos = gallop(exact, exactPos, exactSize, key);
+                if (exactPos == exactSize) {
+                    return false;
+                }
+                doc = exact[exactPos] >>> FIELD_BITS;
+                score = exactIdf * FIELD_WEIGHTS[exact[exactPos] & FIELD_MASK];
+                return true;
+            }
+            exactPos = gallop(exact, exactPos, exactSize, key);
+            prefixPos = gallop(prefix, prefixPos, prefixSize, key);
+            int exactDoc = exactPos < exactSize ? exact[exactPos] >>> FIELD_BITS : Integer.MAX_VALUE;
+            int prefixDoc = prefixPos < prefixSize ? prefix[prefixPos] >>> FIELD_BITS : Integer.MAX_VALUE;
+            doc = Math.min(exactDoc, prefixDoc);
+            if (doc == Integer.MAX_VALUE) {
+                return false;
+            }
+            float exactScore = exactDoc == doc ? exactIdf * FIELD_WEIGHTS[exact[exactPos] & FIELD_MASK] : 0f;
+            float prefixScore = prefixDoc == doc ? prefixIdf * FIELD_WEIGHTS[prefix[prefixPos] & FIELD_MASK] : 0f;
+            score = Math.max(exactScore, prefixScore);
+            return true;
+        }
+
+        /**
+         * Première position >= from dont l'entrée est >= key : parcours linéaire sur les
+         * premières entrées (écart courant entre listes de tailles voisines, sans branche
+         * mal prédite), puis recherche exponentielle et dichotomique.
+         */
+        private static int gallop(int[] entries, int from, int size, int key) {
+            int linearEnd = Math.min(size, from + LINEAR_PROBES);
+            while (from < linearEnd && entries[from] < key) {
+                from++;
+            }
+            if (from < linearEnd || from == size) {
+                return from;
+            }
+            int low = from - 1;
+            int high = from;
+            int step = 1;
+            while (high < size && entries[high] < key) {
+                low = high;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            // entries[low] < key, entries[high] >= key (ou high == size)
+            while (low + 1 < high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid] < key) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+            return high;
+        }
+    }
+
+    /**
+     * Les n meilleurs documents : tas min de clés (score, document), le score dans les
+     * 32 bits de poids fort (un float positif se compare comme son motif binaire) ;
+     * à score égal, le document le plus ancien passe devant.
+     */
+    private static final class TopDocs {
+        private final long[] heap;
+        private int size;
+
+        TopDocs(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(float score, int doc) {
+            long key = (long) Float.floatToIntBits(score) << 32 | (MAX_DOCS - doc);
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        /** Score du moins bon document retenu (0 tant que le tas n'est pas plein). */
+        float minScore() {
+            return size < heap.length ? 0f : Float.intBitsToFloat((int) (heap[0] >>> 32));
+        }
+
+        /** Documents du meilleur au moins bon. */
+        int[] ranked() {
+            long[] keys = Arrays.copyOf(heap, size);
+            Arrays.sort(keys);
+            int[] docs = new int[size];
+            for (int i = 0; i < size; i++) {
+                docs[i] = MAX_DOCS - (int) keys[size - 1 - i];
+            }
+            return docs;
+        }
+
+        private void siftUp(int i) {
+            long key = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= key) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = key;
+        }
+
+        private void siftDown(int i) {
+            long key = heap[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (key <= heap[child]) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = key;
+        }
+    }
+}
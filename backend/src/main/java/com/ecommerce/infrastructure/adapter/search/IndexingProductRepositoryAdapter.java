@@ -0,0 +1,100 @@
+package com.ecommerce.infrastructure.adapter.search;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTATEUR - Décorateur de ProductRepositoryPort qui tient l'index de recherche à jour.
+ *
+ * Pattern DECORATOR, comme le cache : save réindexe le produit enregistré, deleteById
+ * le retire, APRÈS l'écriture en base. Les opérations de stock (updateStock, décréments,
+ * réincréments) ne touchent pas au texte indexé : prix, stock et disponibilité des
+ * résultats sont relus en base au moment de la recherche.
+ */
+@RequiredArgsConstructor
+public class IndexingProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final InMemoryProductSearchAdapter index;
+
+    @Override
+    public Optional<Product> findById(String productId) {
+        return delegate.findById(productId);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        delegate.streamAll(action);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<String> productIds) {
+        return delegate.findAllByIds(productIds);
+    }
+
+    @Override
+    public List<Product> findBySupplierId(String supplierId) {
+        return delegate.findBySupplierId(supplierId);
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public CursorPage<Product> findPage(ProductSearchCriteria criteria) {
+        return delegate.findPage(criteria);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        index.index(saved);
+        return saved;
+    }
+
+    @Override
+    public void deleteById(String productId) {
+        delegate.deleteById(productId);
+        index.remove(productId);
+    }
+
+    @Override
+    public boolean existsById(String productId) {
+        return delegate.existsById(productId);
+    }
+
+    @Override
+    public void updateStock(String productId, int newStock) {
+        delegate.updateStock(productId, newStock);
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(String productId, int quantity) {
+        return delegate.decreaseStockIfAvailable(productId, quantity);
+    }
+
+    @Override
+    public boolean[] decreaseStockBatch(List<StockDecrement> decrements) {
+        return delegate.decreaseStockBatch(decrements);
+    }
+
+    @Override
+    public void increaseStock(String productId, int quantity) {
+        delegate.increaseStock(productId, quantity);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.infrastructure.adapter.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Découpage du texte des produits et des requêtes en mots indexables.
+ *
+ * Minuscules et accents retirés ("Crème brûlée" → creme, brulee), ligatures œ/æ dépliées,
+ * coupure sur tout ce qui n'est ni lettre ni chiffre (l'élision "l'écran" donne "l" et "ecran").
+ * Les mots d'une lettre et les mots vides les plus courants du français sont ignorés.
+ */
+final class ProductTextAnalyzer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "le", "la", "les", "de", "des", "du", "un", "une", "et", "en",
+            "au", "aux", "ou", "pour", "par", "avec", "dans", "sur");
+
+    private ProductTextAnalyzer() {
+    }
+
+    /**
+     * Mots distincts du texte, dans leur ordre d'apparition.
+     */
+    static List<String> words(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        String folded = fold(text);
+        Set<String> words = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = folded.substring(start, i);
+                if (word.length() > 1 && !STOP_WORDS.contains(word)) {
+                    words.add(word);
+                }
+                start = -1;
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT).replace("œ", "oe").replace("æ", "ae");
+        return COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
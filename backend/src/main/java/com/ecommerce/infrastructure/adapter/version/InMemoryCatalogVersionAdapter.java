@@ -0,0 +1,101 @@
+package com.ecommerce.infrastructure.adapter.version;
+
+import com.ecommerce.domain.model.CatalogScope;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.CatalogVersionPort;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ADAPTATEUR - Versions du catalogue tenues en mémoire.
+ *
+ * Chaque écriture prend le numéro suivant d'une séquence globale (version de tout le catalogue)
+ * et le reporte sur le produit, son fournisseur et sa catégorie, avant comme après l'écriture.
+ * Fournisseur et catégorie sont ceux vus à la dernière lecture ou écriture du produit
+ * (VersioningProductRepositoryAdapter). Pour un produit jamais vu, ils sont inconnus :
+ * l'écriture relève alors un plancher commun à toutes les listes, par prudence.
+ *
+ * Les numéros sont reportés APRÈS l'écriture en base : une lecture qui lit la version puis les
+ * données ne peut associer qu'une version plus ancienne à des données plus récentes, jamais
+ * l'inverse ; le client relit alors une fois de trop, sans jamais garder de données périmées.
+ */
+@Component
+public class InMemoryCatalogVersionAdapter implements CatalogVersionPort {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong listFloor = new AtomicLong();
+    private final Map<String, Long> products = new ConcurrentHashMap<>();
+    private final Map<String, Long> suppliers = new ConcurrentHashMap<>();
+    private final Map<String, Long> categories = new ConcurrentHashMap<>();
+    private final Map<String, Membership> memberships = new ConcurrentHashMap<>();
+
+    @Override
+    public long versionOf(CatalogScope scope, String key) {
+        return switch (scope) {
+            case ALL -> sequence.get();
+            case PRODUCT -> products.getOrDefault(key, 0L);
+            case SUPPLIER -> Math.max(suppliers.getOrDefault(key, 0L), listFloor.get());
+            case CATEGORY -> Math.max(categories.getOrDefault(key, 0L), listFloor.get());
+        };
+    }
+
+    /**
+     * Produit lu en base : retient son fournisseur et sa catégorie s'ils ne sont pas déjà connus
+     * (une lecture concurrente d'une écriture ne doit pas remplacer l'état écrit).
+     */
+    public void seen(Product product) {
+        memberships.putIfAbsent(product.getId(), new Membership(product.getSupplierId(), product.getCategory()));
+    }
+
+    /**
+     * @param created vrai pour un produit créé par cette écriture (pas d'état précédent)
+     */
+    public void saved(Product product, boolean created) {
+        Membership current = new Membership(product.getSupplierId(), product.getCategory());
+        long version = bump(product.getId());
+        Membership previous = memberships.put(product.getId(), current);
+        bumpLists(current, version);
+        if (previous != null) {
+            bumpLists(previous, version);
+        } else if (!created) {
+            listFloor.accumulateAndGet(version, Math::max);
+        }
+    }
+
+    public void deleted(String productId) {
+        changed(productId, memberships.remove(productId));
+    }
+
+    public void stockChanged(String productId) {
+        changed(productId, memberships.get(productId));
+    }
+
+    private void changed(String productId, Membership membership) {
+        long version = bump(productId);
+        if (membership != null) {
+            bumpLists(membership, version);
+        } else {
+            listFloor.accumulateAndGet(version, Math::max);
+        }
+    }
+
+    /**
+     * Le produit garde sa dernière version même supprimé : revenir à 0 redonnerait
+     * une version déjà servie avant sa première écriture.
+     */
+    private long bump(String productId) {
+        long version = sequence.incrementAndGet();
+        products.merge(productId, version, Math::max);
+        return version;
+    }
+
+    private void bumpLists(Membership membership, long version) {
+        if (membership.supplierId() != null) suppliers.merge(membership.supplierId(), version, Math::max);
+        if (membership.category() != null) categories.merge(membership.category(), version, Math::max);
+    }
+
+    private record Membership(String supplierId, String category) {}
+}
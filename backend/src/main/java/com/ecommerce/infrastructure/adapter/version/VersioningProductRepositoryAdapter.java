@@ -0,0 +1,117 @@
+package com.ecommerce.infrastructure.adapter.version;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * ADAPTATEUR - Décorateur de ProductRepositoryPort qui tient les versions du catalogue.
+ *
+ * Pattern DECORATOR, placé au-dessus de tous les autres : chaque écriture réussie (save,
+ * deleteById, opérations de stock) fait avancer les versions APRÈS l'écriture en base et
+ * l'invalidation du cache. Les lectures unitaires (findById, findAllByIds) apprennent le
+ * fournisseur et la catégorie des produits lus, pour ne faire avancer que leurs listes.
+ */
+@RequiredArgsConstructor
+public class VersioningProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final ProductRepositoryPort delegate;
+    private final InMemoryCatalogVersionAdapter versions;
+
+    @Override
+    public Optional<Product> findById(String productId) {
+        Optional<Product> product = delegate.findById(productId);
+        product.ifPresent(versions::seen);
+        return product;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void streamAll(Consumer<Product> action) {
+        delegate.streamAll(action);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<String> productIds) {
+        List<Product> products = delegate.findAllByIds(productIds);
+        products.forEach(versions::seen);
+        return products;
+    }
+
+    @Override
+    public List<Product> findBySupplierId(String supplierId) {
+        return delegate.findBySupplierId(supplierId);
+    }
+
+    @Override
+    public List<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public CursorPage<Product> findPage(ProductSearchCriteria criteria) {
+        return delegate.findPage(criteria);
+    }
+
+    @Override
+    public Product save(Product product) {
+        boolean created = product.getId() == null;
+        Product saved = delegate.save(product);
+        versions.saved(saved, created);
+        return saved;
+    }
+
+    @Override
+    public void deleteById(String productId) {
+        delegate.deleteById(productId);
+        versions.deleted(productId);
+    }
+
+    @Override
+    public boolean existsById(String productId) {
+        return delegate.existsById(productId);
+    }
+
+    @Override
+    public void updateStock(String productId, int newStock) {
+        delegate.updateStock(productId, newStock);
+        versions.stockChanged(productId);
+    }
+
+    @Override
+    public boolean decreaseStockIfAvailable(String productId, int quantity) {
+        boolean decreased = delegate.decreaseStockIfAvailable(productId, quantity);
+        if (decreased) {
+            versions.stockChanged(productId);
+        }
+        return decreased;
+    }
+
+    @Override
+    public boolean[] decreaseStockBatch(List<StockDecrement> decrements) {
+        boolean[] applied = delegate.decreaseStockBatch(decrements);
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                versions.stockChanged(decrements.get(i).productId());
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public void increaseStock(String productId, int quantity) {
+        delegate.increaseStock(productId, quantity);
+        versions.stockChanged(productId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.infrastructure.adapter.web.reactive;
+
+import com.ecommerce.domain.model.User;
+import com.ecommerce.domain.port.output.TokenGeneratorPort;
+import com.ecommerce.domain.port.output.UserRepositoryPort;
+import com.ecommerce.infrastructure.adapter.UserRevocationCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Set;
+
+/**
+ * Routes réactives réservées aux utilisateurs connectés (hors chaîne Spring Security, qui ne
+ * couvre que le serveur servlet) : même règle que JwtAuthFilter + anyRequest().authenticated().
+ *
+ * La signature est vérifiée sur la boucle d'événements (calcul pur). En auth.token-mode=database,
+ * la relecture des rôles passe par le UserRepositoryPort bloquant, déportée sur boundedElastic.
+ * Sans utilisateur valide : 403 sans corps, comme le serveur servlet.
+ */
+@Component
+@ConditionalOnProperty(name = "product.reactive.enabled", havingValue = "true")
+class ReactiveAuthenticationFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private final TokenGeneratorPort tokenGenerator;
+    private final UserRepositoryPort userRepository;
+    private final UserRevocationCache revocationCache;
+    private final boolean claimsMode;
+
+    ReactiveAuthenticationFilter(TokenGeneratorPort tokenGenerator, UserRepositoryPort userRepository,
+                                 UserRevocationCache revocationCache,
+                                 @Value("${auth.token-mode:database}") String tokenMode) {
+        this.tokenGenerator = tokenGenerator;
+        this.userRepository = userRepository;
+        this.revocationCache = revocationCache;
+        this.claimsMode = "claims".equalsIgnoreCase(tokenMode);
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String header = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            return forbidden();
+        }
+        return Mono.justOrEmpty(tokenGenerator.verifyAndDecode(header.substring(7)))
+                .flatMap(this::resolveRoles)
+                .flatMap(roles -> next.handle(request))
+                .switchIfEmpty(forbidden());
+    }
+
+    private Mono<Set<String>> resolveRoles(TokenGeneratorPort.TokenClaims claims) {
+        if (claimsMode) {
+            return Mono.justOrEmpty(revocationCache.resolveRoles(claims));
+        }
+        return Mono.fromCallable(() -> userRepository.findByUsername(claims.username()).map(User::getRoles))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private static Mono<ServerResponse> forbidden() {
+        return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+    }
+}
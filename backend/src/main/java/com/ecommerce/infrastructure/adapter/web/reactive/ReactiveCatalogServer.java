@@ -0,0 +1,104 @@
+package com.ecommerce.infrastructure.adapter.web.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+
+/**
+ * Serveur Reactor Netty des lectures non bloquantes du catalogue (product.reactive.port).
+ *
+ * L'application reste une application servlet : Tomcat sert l'API complète, ce serveur ne sert
+ * que les GET du catalogue, sur quelques threads de boucle d'événements (un par cœur, au moins 4)
+ * et sans thread tenu pendant l'aller-retour avec la base. Mêmes chemins que ProductController :
+ * /api/products et /api/products/{id} publics, /supplier/{supplierId} et /category/{category}
+ * réservés aux utilisateurs connectés.
+ */
+@Component
+@ConditionalOnProperty(name = "product.reactive.enabled", havingValue = "true")
+@Slf4j
+public class ReactiveCatalogServer implements SmartLifecycle {
+
+    private final ReactiveProductHandler handler;
+    private final ReactiveAuthenticationFilter authentication;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveCatalogServer(ReactiveProductHandler handler, ReactiveAuthenticationFilter authentication,
+                                 ObjectMapper objectMapper, @Value("${product.reactive.port:8081}") int port) {
+        this.handler = handler;
+        this.authentication = authentication;
+        this.objectMapper = objectMapper;
+        this.port = port;
+    }
+
+    RouterFunction<ServerResponse> routes() {
+        RouterFunction<ServerResponse> publicReads = RouterFunctions.route()
+                .GET("/api/products", handler::getAllProducts)
+                .GET("/api/products/{id}", handler::getProductById)
+                .build();
+        RouterFunction<ServerResponse> authenticatedReads = RouterFunctions.route()
+                .GET("/api/products/supplier/{supplierId}", handler::getBySupplier)
+                .GET("/api/products/category/{category}", handler::getByCategory)
+                .filter(authentication)
+                .build();
+        return authenticatedReads.and(publicReads);
+    }
+
+    @Override
+    public void start() {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    // ObjectMapper de Spring MVC : JSON identique à celui de ProductController
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(new CorsWebFilter(corsSource()))
+                .build();
+        ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(
+                RouterFunctions.toHttpHandler(routes(), strategies));
+        server = HttpServer.create().port(port).handle(adapter).bindNow();
+        log.info("Lectures réactives du catalogue sur le port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        server = null;
+        if (running != null) {
+            running.disposeNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    private static UrlBasedCorsConfigurationSource corsSource() {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.setAllowedOrigins(List.of("http://localhost:4200"));
+        cors.addAllowedMethod("GET");
+        cors.addAllowedHeader("*");
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/products/**", cors);
+        return source;
+    }
+}
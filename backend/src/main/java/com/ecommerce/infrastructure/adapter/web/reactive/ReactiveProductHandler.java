@@ -0,0 +1,56 @@
+package com.ecommerce.infrastructure.adapter.web.reactive;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.input.ReactiveProductUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ADAPTATEUR WEB - Lectures du catalogue en non bloquant (endpoints fonctionnels WebFlux).
+ *
+ * Mêmes réponses que ProductController pour les lectures simples. Les listes sont encodées au
+ * fil de l'eau : tableau JSON par défaut, NDJSON avec Accept: application/x-ndjson.
+ * Backpressure de bout en bout : Reactor Netty ne demande l'élément suivant que si le canal
+ * est inscriptible, et le pilote ne lit la suite du résultat qu'à la demande. Un client lent
+ * ralentit donc la lecture en base au lieu de faire grossir un tampon.
+ */
+@Component
+@ConditionalOnProperty(name = "product.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveProductHandler {
+
+    static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private final ReactiveProductUseCase productUseCase;
+
+    public Mono<ServerResponse> getAllProducts(ServerRequest request) {
+        return list(request, productUseCase.getAllProducts());
+    }
+
+    public Mono<ServerResponse> getProductById(ServerRequest request) {
+        return productUseCase.getProductById(request.pathVariable("id"))
+                .flatMap(product -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(product))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> getBySupplier(ServerRequest request) {
+        return list(request, productUseCase.getProductsBySupplier(request.pathVariable("supplierId")));
+    }
+
+    public Mono<ServerResponse> getByCategory(ServerRequest request) {
+        return list(request, productUseCase.getProductsByCategory(request.pathVariable("category")));
+    }
+
+    private Mono<ServerResponse> list(ServerRequest request, Flux<Product> products) {
+        MediaType type = request.headers().accept().stream().anyMatch(NDJSON::equalsTypeAndSubtype)
+                ? NDJSON : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(type).varyBy(HttpHeaders.ACCEPT).body(products, Product.class);
+    }
+}
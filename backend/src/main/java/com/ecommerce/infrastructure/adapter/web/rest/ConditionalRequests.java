@@ -0,0 +1,74 @@
+package com.ecommerce.infrastructure.adapter.web.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Requêtes conditionnelles (ETag / If-None-Match) sur les lectures du catalogue.
+ *
+ * L'ETag fort est la version de la lecture, préfixée par l'instant de démarrage (les versions
+ * repartent de zéro à chaque démarrage) et suffixée par la représentation quand l'endpoint en
+ * négocie plusieurs (Vary: Accept) : un ETag fort désigne un corps précis, le tableau JSON et le
+ * NDJSON d'une même version ne doivent pas se valider l'un l'autre. Si le client a déjà cette version, la réponse est un
+ * 304 sans corps, rendu avant tout accès à la base et toute sérialisation.
+ * Cache-Control: no-cache laisse le navigateur garder la réponse à condition de la revalider.
+ *
+ * Compteur http.conditional.requests, par endpoint et par résultat (not_modified / full) :
+ * la part des 304 est not_modified / total.
+ */
+@Component
+class ConditionalRequests {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    ConditionalRequests(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Répond 304 (corps null) si le client a déjà cette version, sinon exécute la lecture.
+     */
+    <T> ResponseEntity<T> ifModified(ServletWebRequest request, String endpoint, long version,
+                                     Supplier<ResponseEntity<T>> read) {
+        return ifModified(request, endpoint, version, null, read);
+    }
+
+    /**
+     * @param representation format négocié ajouté à l'ETag (ex. "ndjson"), null pour la représentation par défaut
+     */
+    <T> ResponseEntity<T> ifModified(ServletWebRequest request, String endpoint, long version, String representation,
+                                     Supplier<ResponseEntity<T>> read) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        String tag = epoch + "-" + version + (representation == null ? "" : "-" + representation);
+        if (request.checkNotModified('"' + tag + '"')) {
+            count(endpoint, "not_modified");
+            return null;
+        }
+        count(endpoint, "full");
+        return read.get();
+    }
+
+    private void count(String endpoint, String result) {
+        counters.computeIfAbsent(endpoint + ':' + result, key -> Counter.builder("http.conditional.requests")
+                        .description("Lectures conditionnelles du catalogue")
+                        .tag("endpoint", endpoint)
+                        .tag("result", result)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.infrastructure.adapter.web.rest;
+
+import com.ecommerce.domain.model.Facet;
+import com.ecommerce.domain.model.FacetFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lit le paramètre "where" du filtre par facettes.
+ *
+ * Conditions "facette:valeur" combinées par AND / OR (AND prioritaire) et parenthèses,
+ * valeur entre guillemets si elle contient des espaces ou des parenthèses :
+ * {@code category:"Maison et jardin" AND (supplierId:f1 OR price:0-5000) AND available:true}
+ */
+final class FacetFilterParser {
+
+    private static final int MAX_DEPTH = 16;
+
+    private final String text;
+    private int position;
+    private int depth;
+
+    private FacetFilterParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * @return le filtre, ou null si l'expression est vide (tout le catalogue)
+     */
+    static FacetFilter parse(String where) {
+        if (where == null || where.isBlank()) {
+            return null;
+        }
+        FacetFilterParser parser = new FacetFilterParser(where);
+        FacetFilter filter = parser.anyOf();
+        parser.skipSpaces();
+        if (parser.position < where.length()) {
+            throw parser.error("fin de l'expression attendue");
+        }
+        return filter;
+    }
+
+    private FacetFilter anyOf() {
+        List<FacetFilter> filters = new ArrayList<>(List.of(allOf()));
+        while (keyword("OR")) {
+            filters.add(allOf());
+        }
+        return filters.size() == 1 ? filters.get(0) : new FacetFilter.AnyOf(filters);
+    }
+
+    private FacetFilter allOf() {
+        List<FacetFilter> filters = new ArrayList<>(List.of(condition()));
+        while (keyword("AND")) {
+            filters.add(condition());
+        }
+        return filters.size() == 1 ? filters.get(0) : new FacetFilter.AllOf(filters);
+    }
+
+    private FacetFilter condition() {
+        skipSpaces();
+        if (position < text.length() && text.charAt(position) == '(') {
+            if (++depth > MAX_DEPTH) {
+                throw error("au plus " + MAX_DEPTH + " niveaux de parenthèses");
+            }
+            position++;
+            FacetFilter inner = anyOf();
+            depth--;
+            skipSpaces();
+            if (position >= text.length() || text.charAt(position) != ')') {
+                throw error("')' attendue");
+            }
+            position++;
+            return inner;
+        }
+        int start = position;
+        while (position < text.length() && Character.isLetter(text.charAt(position))) {
+            position++;
+        }
+        if (start == position || position >= text.length() || text.charAt(position) != ':') {
+            throw error("condition facette:valeur attendue");
+        }
+        Facet facet = Facet.fromKey(text.substring(start, position++));
+        return new FacetFilter.Term(facet, value());
+    }
+
+    private String value() {
+        if (position < text.length() && text.charAt(position) == '"') {
+            int end = text.indexOf('"', position + 1);
+            if (end < 0) {
+                throw error("guillemet fermant attendu");
+            }
+            String value = text.substring(position + 1, end);
+            position = end + 1;
+            return value;
+        }
+        int start = position;
+        while (position < text.length() && !Character.isWhitespace(text.charAt(position))
+                && text.charAt(position) != '(' && text.charAt(position) != ')') {
+            position++;
+        }
+        if (start == position) {
+            throw error("valeur attendue");
+        }
+        return text.substring(start, position);
+    }
+
+    private boolean keyword(String keyword) {
+        skipSpaces();
+        int end = position + keyword.length();
+        if (end < text.length() && text.regionMatches(true, position, keyword, 0, keyword.length())
+                && (Character.isWhitespace(text.charAt(end)) || text.charAt(end) == '(')) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String expected) {
+        return new IllegalArgumentException("Filtre invalide (position " + position + "): " + expected);
+    }
+}
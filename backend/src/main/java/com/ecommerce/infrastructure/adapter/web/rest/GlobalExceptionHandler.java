@@ -1,8 +1,15 @@
 package com.ecommerce.infrastructure.adapter.web.rest;
 
 import com.ecommerce.domain.exception.AuthenticationException;
+import com.ecommerce.domain.exception.IdempotencyKeyInProgressException;
+import com.ecommerce.domain.exception.IdempotencyKeyMismatchException;
+import com.ecommerce.domain.exception.OrderIntakeFullException;
 import com.ecommerce.domain.exception.OrderNotFoundException;
+import com.ecommerce.domain.exception.PasswordHashingBusyException;
 import com.ecommerce.domain.exception.ProductNotFoundException;
+import com.ecommerce.domain.exception.StockHoldNotFoundException;
+import com.ecommerce.domain.exception.SupplierUnavailableException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -25,18 +32,39 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(HttpStatus.UNAUTHORIZED.value(), e.getMessage(), LocalDateTime.now()));
     }
 
-    @ExceptionHandler({ProductNotFoundException.class, OrderNotFoundException.class})
+    @ExceptionHandler({ProductNotFoundException.class, OrderNotFoundException.class, StockHoldNotFoundException.class})
     public ResponseEntity<ErrorResponse> handleNotFound(RuntimeException e) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), e.getMessage(), LocalDateTime.now()));
     }
 
-    @ExceptionHandler(IllegalStateException.class)
-    public ResponseEntity<ErrorResponse> handleBusinessRule(IllegalStateException e) {
+    @ExceptionHandler({OrderIntakeFullException.class, SupplierUnavailableException.class,
+            PasswordHashingBusyException.class})
+    public ResponseEntity<ErrorResponse> handleOverload(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleInProgress(IdempotencyKeyInProgressException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(HttpStatus.CONFLICT.value(), e.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler({IllegalStateException.class, IdempotencyKeyMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleBusinessRule(RuntimeException e) {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
                 .body(new ErrorResponse(422, e.getMessage(), LocalDateTime.now()));
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage(), LocalDateTime.now()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException e) {
         String message = e.getBindingResult().getFieldErrors().stream()
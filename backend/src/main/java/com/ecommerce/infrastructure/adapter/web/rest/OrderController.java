@@ -1,7 +1,10 @@
 package com.ecommerce.infrastructure.adapter.web.rest;
 
+import com.ecommerce.domain.model.CursorPage;
 import com.ecommerce.domain.model.Order;
 import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderSummary;
+import com.ecommerce.domain.model.StockHold;
 import com.ecommerce.domain.port.input.OrderUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -9,12 +12,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -32,25 +40,68 @@ public class OrderController {
 
     private final OrderUseCase orderUseCase;
 
+    @Value("${order.intake.async:false}")
+    private boolean asyncIntake;
+
     @PostMapping
     @Operation(summary = "Passe une nouvelle commande",
-               description = "Vérifie les stocks, met à jour la BDD du fournisseur concerné et crée la commande")
+               description = "Vérifie les stocks, met à jour la BDD du fournisseur concerné et crée la commande. "
+                       + "En mode asynchrone (order.intake.async=true), répond 202 avec l'URL de suivi du statut. "
+                       + "Avec l'en-tête Idempotency-Key, une requête rejouée renvoie la commande déjà créée.")
     public ResponseEntity<Order> placeOrder(@Valid @RequestBody PlaceOrderRequest request,
+                                             @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
                                              Authentication authentication) {
         String customerId = authentication.getName(); // username comme ID client
 
-        List<OrderItem> items = request.items().stream()
-                .map(i -> OrderItem.builder()
-                        .productId(i.productId())
-                        .supplierId(i.supplierId())
-                        .quantity(i.quantity())
-                        .build())
-                .toList();
+        List<OrderItem> items = toOrderItems(request.items());
 
-        Order order = orderUseCase.placeOrder(customerId, items, request.shippingAddress());
+        if (asyncIntake) {
+            Order accepted = orderUseCase.submitOrder(customerId, items, request.shippingAddress(), idempotencyKey);
+            URI statusUrl = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .path("/{id}/status").buildAndExpand(accepted.getId()).toUri();
+            return ResponseEntity.accepted().location(statusUrl).body(accepted);
+        }
+
+        Order order = orderUseCase.placeOrder(customerId, items, request.shippingAddress(), idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
 
+    @PostMapping("/holds")
+    @Operation(summary = "Réserve le stock d'un panier pendant le checkout",
+               description = "Le stock est retiré du catalogue jusqu'à la confirmation ou l'expiration "
+                       + "(ttlSeconds, 10 minutes par défaut, 30 au plus)")
+    public ResponseEntity<StockHold> reserveStock(@Valid @RequestBody ReserveStockRequest request,
+                                                  Authentication authentication) {
+        Duration ttl = request.ttlSeconds() != null ? Duration.ofSeconds(request.ttlSeconds()) : null;
+        StockHold hold = orderUseCase.reserveStock(authentication.getName(), toOrderItems(request.items()), ttl);
+        return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    @Operation(summary = "Passe la commande d'une réservation",
+               description = "Aucun nouveau décrément de stock ; 404 si la réservation a expiré")
+    public ResponseEntity<Order> confirmHold(@PathVariable String holdId,
+                                             @Valid @RequestBody ConfirmHoldRequest request,
+                                             Authentication authentication) {
+        Order order = orderUseCase.placeOrderFromHold(authentication.getName(), holdId, request.shippingAddress());
+        return ResponseEntity.status(HttpStatus.CREATED).body(order);
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(summary = "Abandonne une réservation et rend son stock")
+    public ResponseEntity<Void> releaseHold(@PathVariable String holdId, Authentication authentication) {
+        orderUseCase.releaseHold(authentication.getName(), holdId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/status")
+    @Operation(summary = "Statut d'une commande (y compris en file d'attente)")
+    public ResponseEntity<OrderStatusResponse> getOrderStatus(@PathVariable String id) {
+        return orderUseCase.getOrderStatus(id)
+                .map(status -> ResponseEntity.ok(new OrderStatusResponse(id, status)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupère une commande par son ID")
     public ResponseEntity<Order> getOrder(@PathVariable String id) {
@@ -65,6 +116,15 @@ public class OrderController {
         return ResponseEntity.ok(orderUseCase.getOrdersByCustomer(authentication.getName()));
     }
 
+    @GetMapping("/my-orders/summaries")
+    @Operation(summary = "Historique paginé de l'utilisateur connecté",
+               description = "Vue résumée (sans lignes) ; passer le nextCursor de la réponse pour la page suivante")
+    public ResponseEntity<CursorPage<OrderSummary>> getMyOrderSummaries(Authentication authentication,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(orderUseCase.getOrderSummariesByCustomer(authentication.getName(), cursor, limit));
+    }
+
     @DeleteMapping("/{id}/cancel")
     @Operation(summary = "Annule une commande")
     public ResponseEntity<Order> cancelOrder(@PathVariable String id) {
@@ -78,12 +138,31 @@ public class OrderController {
         return ResponseEntity.ok(orderUseCase.updateOrderStatus(id, status));
     }
 
+    private static List<OrderItem> toOrderItems(List<OrderItemRequest> items) {
+        return items.stream()
+                .map(i -> OrderItem.builder()
+                        .productId(i.productId())
+                        .supplierId(i.supplierId())
+                        .quantity(i.quantity())
+                        .build())
+                .toList();
+    }
+
     // DTOs
     public record PlaceOrderRequest(
             @NotEmpty List<OrderItemRequest> items,
             @NotBlank String shippingAddress
     ) {}
 
+    public record ReserveStockRequest(
+            @NotEmpty List<OrderItemRequest> items,
+            @Positive Long ttlSeconds
+    ) {}
+
+    public record ConfirmHoldRequest(@NotBlank String shippingAddress) {}
+
+    public record OrderStatusResponse(String orderId, Order.OrderStatus status) {}
+
     public record OrderItemRequest(
             @NotBlank String productId,
             @NotBlank String supplierId,
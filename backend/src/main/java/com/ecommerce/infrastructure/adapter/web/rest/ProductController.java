@@ -1,6 +1,11 @@
 package com.ecommerce.infrastructure.adapter.web.rest;
 
+import com.ecommerce.domain.model.CatalogScope;
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.FacetedProducts;
+import com.ecommerce.domain.model.FederatedProducts;
 import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
 import com.ecommerce.domain.port.input.ProductUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +18,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -29,31 +36,87 @@ import java.util.List;
 public class ProductController {
 
     private final ProductUseCase productUseCase;
+    private final ConditionalRequests conditionalRequests;
+    private final StreamingJson streamingJson;
 
     @GetMapping
-    @Operation(summary = "Liste tous les produits disponibles")
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productUseCase.getAllProducts());
+    @Operation(summary = "Liste tous les produits disponibles",
+               description = "Écrit en flux (tableau JSON, ou NDJSON avec Accept: application/x-ndjson). "
+                       + "ETag + If-None-Match : 304 sans corps si le catalogue n'a pas changé")
+    public ResponseEntity<StreamingResponseBody> getAllProducts(ServletWebRequest request) {
+        return conditionalRequests.ifModified(request, "all", productUseCase.catalogVersion(CatalogScope.ALL, null),
+                streamingJson.representation(request),
+                () -> streamingJson.<Product>stream(request, productUseCase::streamAllProducts));
+    }
+
+    @GetMapping("/federated")
+    @Operation(summary = "Catalogue agrégé sur toutes les bases fournisseurs",
+               description = "Interroge les fournisseurs en parallèle ; le résultat liste ceux qui n'ont pas répondu à temps")
+    public ResponseEntity<FederatedProducts> getFederatedCatalog() {
+        return ResponseEntity.ok(productUseCase.getFederatedCatalog());
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Liste paginée du catalogue (curseur)",
+               description = "Passer le nextCursor de la réponse précédente pour obtenir la page suivante")
+    public ResponseEntity<CursorPage<Product>> getProductPage(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int limit,
+                                                              @RequestParam(required = false) String supplierId,
+                                                              @RequestParam(required = false) String category,
+                                                              @RequestParam(required = false) BigDecimal minPrice,
+                                                              @RequestParam(required = false) BigDecimal maxPrice,
+                                                              @RequestParam(required = false) Boolean available) {
+        ProductSearchCriteria criteria = ProductSearchCriteria.builder()
+                .cursor(cursor).limit(limit)
+                .supplierId(supplierId).category(category)
+                .minPrice(minPrice).maxPrice(maxPrice).available(available)
+                .build();
+        return ResponseEntity.ok(productUseCase.searchProducts(criteria));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Recherche plein texte dans le catalogue",
+               description = "Nom, description et catégorie ; sans accents ni casse, le dernier mot peut être incomplet. "
+                       + "Résultats classés par pertinence, passer le nextCursor pour la page suivante")
+    public ResponseEntity<CursorPage<Product>> search(@RequestParam("q") String query,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productUseCase.searchCatalog(query, cursor, limit));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Filtre le catalogue par facettes, avec leurs compteurs",
+               description = "Conditions facette:valeur (category, supplierId, storeId, available, price) combinées "
+                       + "par AND / OR et parenthèses, ex. category:Audio AND (price:0-5000 OR price:5000-10000). "
+                       + "Tranches de prix (FCFA) : 0-5000, 5000-10000, 10000-25000, 25000-50000, 50000-100000, "
+                       + "100000-250000, 250000-500000, 500000-1000000, 1000000+")
+    public ResponseEntity<FacetedProducts> filter(@RequestParam(required = false) String where,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productUseCase.filterCatalog(FacetFilterParser.parse(where), cursor, limit));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Récupère un produit par son ID")
-    public ResponseEntity<Product> getProductById(@PathVariable String id) {
-        return productUseCase.getProductById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Product> getProductById(@PathVariable String id, ServletWebRequest request) {
+        return conditionalRequests.ifModified(request, "product", productUseCase.catalogVersion(CatalogScope.PRODUCT, id),
+                () -> productUseCase.getProductById(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/supplier/{supplierId}")
     @Operation(summary = "Produits d'un fournisseur spécifique")
-    public ResponseEntity<List<Product>> getBySupplier(@PathVariable String supplierId) {
-        return ResponseEntity.ok(productUseCase.getProductsBySupplier(supplierId));
+    public ResponseEntity<List<Product>> getBySupplier(@PathVariable String supplierId, ServletWebRequest request) {
+        return conditionalRequests.ifModified(request, "supplier", productUseCase.catalogVersion(CatalogScope.SUPPLIER, supplierId),
+                () -> ResponseEntity.ok(productUseCase.getProductsBySupplier(supplierId)));
     }
 
     @GetMapping("/category/{category}")
     @Operation(summary = "Produits par catégorie")
-    public ResponseEntity<List<Product>> getByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(productUseCase.getProductsByCategory(category));
+    public ResponseEntity<List<Product>> getByCategory(@PathVariable String category, ServletWebRequest request) {
+        return conditionalRequests.ifModified(request, "category", productUseCase.catalogVersion(CatalogScope.CATEGORY, category),
+                () -> ResponseEntity.ok(productUseCase.getProductsByCategory(category)));
     }
 
     @PostMapping
@@ -0,0 +1,93 @@
+package com.ecommerce.infrastructure.adapter.web.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Listings volumineux écrits en flux : chaque élément est sérialisé dans la réponse dès sa
+ * lecture en base, sans construire la liste ni le document JSON complet en mémoire.
+ *
+ * Tableau JSON par défaut, NDJSON (un objet par ligne) si le client accepte application/x-ndjson.
+ * Le premier élément est envoyé immédiatement, les suivants par blocs de la taille des tampons.
+ * Une erreur en cours de parcours ne peut plus changer le statut (200 déjà envoyé) :
+ * la réponse est alors tronquée, ce que le client détecte (tableau non fermé, ligne incomplète).
+ */
+@Component
+class StreamingJson {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ObjectWriter writer;
+
+    StreamingJson(ObjectMapper objectMapper) {
+        // Par défaut writeValue vide le tampon après chaque élément : un paquet réseau par produit
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Représentation négociée pour l'ETag : "ndjson", ou null pour le tableau JSON par défaut.
+     */
+    String representation(ServletWebRequest request) {
+        return acceptsNdjson(request.getHeader(HttpHeaders.ACCEPT)) ? "ndjson" : null;
+    }
+
+    /**
+     * @param source parcourt les éléments et passe chacun au consommateur fourni
+     */
+    <T> ResponseEntity<StreamingResponseBody> stream(ServletWebRequest request, Consumer<Consumer<T>> source) {
+        boolean ndjson = acceptsNdjson(request.getHeader(HttpHeaders.ACCEPT));
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = writer.createGenerator(out)) {
+                json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                json.setRootValueSeparator(null);
+                if (!ndjson) {
+                    json.writeStartArray();
+                }
+                int[] written = {0};
+                source.accept(item -> {
+                    try {
+                        writer.writeValue(json, item);
+                        if (ndjson) {
+                            json.writeRaw('\n');
+                        }
+                        if (++written[0] == 1) {
+                            json.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (!ndjson) {
+                    json.writeEndArray();
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    private static boolean acceptsNdjson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(NDJSON::equalsTypeAndSubtype);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
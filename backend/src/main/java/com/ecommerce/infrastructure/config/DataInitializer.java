@@ -3,7 +3,7 @@ package com.ecommerce.infrastructure.config;
 import com.ecommerce.domain.model.Product;
 import com.ecommerce.domain.model.User;
 import com.ecommerce.domain.port.input.AuthenticationUseCase;
-import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -21,7 +21,7 @@ import java.util.Set;
 public class DataInitializer implements CommandLineRunner {
 
     private final AuthenticationUseCase authUseCase;
-    private final ProductRepositoryPort productRepository;
+    private final SupplierRepositoryRouter supplierRouter;
 
     @Override
     public void run(String... args) {
@@ -70,7 +70,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private void createProduct(String name, String desc, BigDecimal price, int stock, String supplier, String category) {
         try {
-            productRepository.save(Product.builder()
+            supplierRouter.getRepositoryForSupplier(supplier).save(Product.builder()
                     .name(name).description(desc).price(price).stock(stock)
                     .supplierId(supplier).storeId("store-" + supplier).category(category)
                     .available(true)
@@ -0,0 +1,42 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.domain.port.output.PasswordEncoderPort;
+import com.ecommerce.domain.port.output.TokenGeneratorPort;
+import com.ecommerce.infrastructure.adapter.metrics.PortMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CONFIGURATION - Instrumentation des ports de sortie.
+ *
+ * Les repositories sont instrumentés à leur création dans RepositoryConfig ;
+ * les adaptateurs déclarés en @Component (JWT, BCrypt) le sont ici, à l'initialisation du bean.
+ * Les métriques sont exposées au format Prometheus sur /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public PortMetrics portMetrics(MeterRegistry meterRegistry) {
+        return new PortMetrics(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor securityPortMetrics(ObjectProvider<PortMetrics> portMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof TokenGeneratorPort tokenGenerator) {
+                    return portMetrics.getObject().instrument(TokenGeneratorPort.class, tokenGenerator, "jwt", PortMetrics.NO_SUPPLIER);
+                }
+                if (bean instanceof PasswordEncoderPort passwordEncoder) {
+                    return portMetrics.getObject().instrument(PasswordEncoderPort.class, passwordEncoder, "bcrypt", PortMetrics.NO_SUPPLIER);
+                }
+                return bean;
+            }
+        };
+    }
+}
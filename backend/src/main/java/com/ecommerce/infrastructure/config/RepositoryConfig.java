@@ -1,22 +1,67 @@
 package com.ecommerce.infrastructure.config;
 
+import com.ecommerce.domain.port.output.IdempotencyPort;
+import com.ecommerce.domain.port.output.InventoryPort;
+import com.ecommerce.domain.port.output.OrderRepositoryPort;
 import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.ReactiveProductQueryPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
 import com.ecommerce.domain.port.output.UserRepositoryPort;
+import com.ecommerce.infrastructure.adapter.facet.FacetIndexingProductRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.facet.InMemoryProductFacetAdapter;
+import com.ecommerce.infrastructure.adapter.idempotency.InMemoryIdempotencyAdapter;
+import com.ecommerce.infrastructure.adapter.idempotency.JpaIdempotencyAdapter;
+import com.ecommerce.infrastructure.adapter.inventory.DatabaseInventoryAdapter;
+import com.ecommerce.infrastructure.adapter.inventory.InMemoryInventoryAdapter;
+import com.ecommerce.infrastructure.adapter.metrics.PortMetrics;
+import com.ecommerce.infrastructure.adapter.persistence.cache.CachingProductRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.persistence.cache.ProductCache;
+import com.ecommerce.infrastructure.adapter.persistence.cache.ProductCaches;
 import com.ecommerce.infrastructure.adapter.persistence.json.JsonUserRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.persistence.mongo.MongoOrderRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.persistence.mongo.MongoProductRepositoryAdapter;
 import com.ecommerce.infrastructure.adapter.persistence.mongo.MongoUserRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.persistence.mongo.OrderMongoRepository;
+import com.ecommerce.infrastructure.adapter.persistence.mongo.ReactiveMongoProductQueryAdapter;
 import com.ecommerce.infrastructure.adapter.persistence.mongo.UserMongoRepository;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.MySQLOrderRepositoryAdapter;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.MySQLProductRepositoryAdapter;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.MySQLUserRepositoryAdapter;
 import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.*;
+import com.ecommerce.infrastructure.adapter.persistence.r2dbc.R2dbcProductQueryAdapter;
+import com.ecommerce.infrastructure.adapter.search.InMemoryProductSearchAdapter;
+import com.ecommerce.infrastructure.adapter.search.IndexingProductRepositoryAdapter;
+import com.ecommerce.infrastructure.adapter.version.InMemoryCatalogVersionAdapter;
+import com.ecommerce.infrastructure.adapter.version.VersioningProductRepositoryAdapter;
+import com.mongodb.client.MongoClient;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * CONFIGURATION - Sélection dynamique des adaptateurs.
@@ -29,6 +74,7 @@ import java.util.Map;
  * le domaine ne change pas, seule la configuration change.
  */
 @Configuration
+@EnableConfigurationProperties(SupplierProperties.class)
 @RequiredArgsConstructor
 @Slf4j
 public class RepositoryConfig {
@@ -36,14 +82,55 @@ public class RepositoryConfig {
     @Value("${auth.repository-type:mysql}")
     private String authRepositoryType;
 
+    @Value("${product.repository-type:mysql}")
+    private String productRepositoryType;
+
+    @Value("${inventory.engine:database}")
+    private String inventoryEngine;
+
+    @Value("${product.cache.enabled:true}")
+    private boolean productCacheEnabled;
+
+    @Value("${product.cache.max-products:10000}")
+    private long productCacheMaxProducts;
+
+    @Value("${product.cache.max-lists:1000}")
+    private long productCacheMaxLists;
+
+    @Value("${product.cache.ttl-seconds:300}")
+    private long productCacheTtlSeconds;
+
+    @Value("${order.idempotency.store:memory}")
+    private String idempotencyStore;
+
+    @Value("${order.idempotency.max-keys:100000}")
+    private long idempotencyMaxKeys;
+
+    @Value("${order.idempotency.ttl-seconds:86400}")
+    private long idempotencyTtlSeconds;
+
+    @Value("${order.idempotency.wait-timeout-ms:10000}")
+    private long idempotencyWaitTimeoutMs;
+
     @Value("${spring.json-repository.file-path:./data/users.json}")
     private String jsonFilePath;
 
+    @Value("${spring.json-repository.fsync-interval-ms:100}")
+    private long jsonFsyncIntervalMs;
+
+    @Value("${spring.json-repository.compaction-threshold:10000}")
+    private int jsonCompactionThreshold;
+
     // JPA Repositories (Spring Data)
     private final UserJpaRepository userJpaRepository;
     private final ProductJpaRepository productJpaRepository;
     private final OrderJpaRepository orderJpaRepository;
+    private final IdempotencyKeyJpaRepository idempotencyKeyJpaRepository;
     private final UserMongoRepository userMongoRepository;
+    private final OrderMongoRepository orderMongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final PortMetrics portMetrics;
+    private final ProductCaches productCaches;
 
     /**
      * Sélectionne dynamiquement le UserRepositoryPort selon la configuration.
@@ -55,53 +142,229 @@ public class RepositoryConfig {
         return switch (authRepositoryType.toLowerCase()) {
             case "mongo" -> {
                 log.info("→ Adaptateur MongoDB activé pour l'authentification");
-                yield new MongoUserRepositoryAdapter(userMongoRepository);
+                yield metered(UserRepositoryPort.class, new MongoUserRepositoryAdapter(userMongoRepository, mongoTemplate), "mongo");
             }
             case "json" -> {
                 log.info("→ Adaptateur JSON activé pour l'authentification (fichier: {})", jsonFilePath);
-                yield new JsonUserRepositoryAdapter(jsonFilePath);
+                yield metered(UserRepositoryPort.class,
+                        new JsonUserRepositoryAdapter(jsonFilePath, jsonFsyncIntervalMs, jsonCompactionThreshold), "json");
             }
             default -> {
                 log.info("→ Adaptateur MySQL/H2 activé pour l'authentification");
-                yield new MySQLUserRepositoryAdapter(userJpaRepository);
+                yield metered(UserRepositoryPort.class, new MySQLUserRepositoryAdapter(userJpaRepository), "mysql");
             }
         };
     }
 
     /**
-     * Repository de produits par défaut.
+     * Cache des produits de la base partagée.
+     * Une instance par base physique : tous les dépôts branchés dessus la partagent.
      */
     @Bean
-    public ProductRepositoryPort defaultProductRepository() {
-        return new MySQLProductRepositoryAdapter(productJpaRepository, "default");
+    public ProductCache productCache() {
+        return newProductCache(isMongo(productRepositoryType) ? "mongo" : "sql");
     }
 
     /**
-     * Repositories par fournisseur (Strategy routing).
-     *
-     * Dans un vrai projet, chaque fournisseur aurait sa propre DataSource configurée.
-     * Ici on simule avec la même base pour les fournisseurs f1 et f2.
-     * En production: f1 → datasource1, f2 → datasource2, etc.
+     * Repository de produits par défaut (product.repository-type: mysql | mongo).
      */
     @Bean
-    public Map<String, ProductRepositoryPort> supplierRepositories() {
-        Map<String, ProductRepositoryPort> repos = new HashMap<>();
+    public ProductRepositoryPort defaultProductRepository(ProductCache productCache, InMemoryProductSearchAdapter searchIndex,
+                                                          InMemoryProductFacetAdapter facetIndex,
+                                                          InMemoryCatalogVersionAdapter catalogVersions) {
+        log.info("=== Sélection du ProductRepositoryPort: {} ===", productRepositoryType);
+        ProductRepositoryPort repository = isMongo(productRepositoryType)
+                ? new MongoProductRepositoryAdapter(mongoTemplate, "default")
+                : new MySQLProductRepositoryAdapter(productJpaRepository, "default");
+        return versioned(faceted(indexed(cached(metered(repository, productRepositoryType, "default"), productCache),
+                searchIndex), facetIndex), catalogVersions);
+    }
 
-        // Fournisseur f1 : utilise MySQL (même DB pour la démo)
-        repos.put("f1", new MySQLProductRepositoryAdapter(productJpaRepository, "f1"));
+    /**
+     * Lectures réactives du catalogue (même product.repository-type que le repository par défaut) :
+     * R2DBC sur product.reactive.r2dbc, ou driver MongoDB réactif. Les écritures restent sur les ports bloquants.
+     * Le pool R2DBC appartient à l'adaptateur (fermé avec lui) : une ConnectionFactory déclarée en bean
+     * ferait renoncer Spring Boot à la DataSource JDBC.
+     * Créé seulement avec product.reactive.enabled=true : sinon aucun pool R2DBC n'est ouvert.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.reactive.enabled", havingValue = "true")
+    public ReactiveProductQueryPort reactiveProductQueryPort(ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate,
+                                                             @Value("${product.reactive.r2dbc.url:r2dbc:mysql://localhost:3306/ecommercedb}") String url,
+                                                             @Value("${product.reactive.r2dbc.username:root}") String username,
+                                                             @Value("${product.reactive.r2dbc.password:}") String password,
+                                                             @Value("${product.reactive.r2dbc.pool-size:10}") int poolSize) {
+        log.info("=== Sélection du ReactiveProductQueryPort: {} ===", productRepositoryType);
+        if (isMongo(productRepositoryType)) {
+            return new ReactiveMongoProductQueryAdapter(reactiveMongoTemplate.getObject());
+        }
+        ConnectionFactory connections = ConnectionFactoryBuilder.withUrl(url).username(username).password(password).build();
+        return new R2dbcProductQueryAdapter(new ConnectionPool(ConnectionPoolConfiguration.builder(connections)
+                .initialSize(0).maxSize(poolSize).build()));
+    }
 
-        // Fournisseur f2 : utilise MySQL (dans un vrai contexte, ce serait une autre datasource)
-        repos.put("f2", new MySQLProductRepositoryAdapter(productJpaRepository, "f2"));
+    /**
+     * Bases dédiées des fournisseurs déclarés avec une url (fermées à l'arrêt du contexte).
+     */
+    @Bean(destroyMethod = "close")
+    public SupplierPersistenceUnits supplierPersistenceUnits(@Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        return new SupplierPersistenceUnits(ddlAuto);
+    }
+
+    /**
+     * Repositories par fournisseur (Strategy routing), déclarés sous product.suppliers.
+     *
+     * Chaque fournisseur choisit son stockage (repository-type: mysql | mongo).
+     * Un fournisseur SQL avec une url a sa propre DataSource et son pool Hikari :
+     * une charge lourde sur f1 n'épuise plus les connexions de f2.
+     * Sans url (ou sans mongo-database), le fournisseur partage la base principale (mode démo).
+     */
+    @Bean
+    public Map<String, ProductRepositoryPort> supplierRepositories(ProductCache productCache,
+                                                                   InMemoryProductSearchAdapter searchIndex,
+                                                                   InMemoryProductFacetAdapter facetIndex,
+                                                                   InMemoryCatalogVersionAdapter catalogVersions,
+                                                                   SupplierProperties supplierProperties,
+                                                                   SupplierPersistenceUnits persistenceUnits,
+                                                                   MongoClient mongoClient) {
+        // Une instance de cache par base physique ; celle du repository par défaut est productCache
+        Map<String, ProductCache> cachesByStore = new HashMap<>();
+        cachesByStore.put(isMongo(productRepositoryType) ? "mongo" : "sql", productCache);
+
+        Map<String, ProductRepositoryPort> repos = new LinkedHashMap<>();
+        supplierProperties.getSuppliers().forEach((supplierId, supplier) -> {
+            String type = supplier.getRepositoryType() != null ? supplier.getRepositoryType() : productRepositoryType;
+            ProductRepositoryPort repository;
+            String store;
+            if (isMongo(type)) {
+                String database = supplier.getMongoDatabase();
+                MongoTemplate template = database != null ? new MongoTemplate(mongoClient, database) : mongoTemplate;
+                repository = new MongoProductRepositoryAdapter(template, supplierId);
+                store = database != null ? "mongo:" + database : "mongo";
+            } else if (supplier.hasOwnDataSource()) {
+                repository = new MySQLProductRepositoryAdapter(persistenceUnits.productRepository(supplierId, supplier), supplierId);
+                store = "sql:" + supplier.getUrl();
+            } else {
+                repository = new MySQLProductRepositoryAdapter(productJpaRepository, supplierId);
+                store = "sql";
+            }
+            log.info("→ Fournisseur {} : {} ({})", supplierId, type, store);
+            repos.put(supplierId, versioned(faceted(indexed(cached(metered(repository, type, supplierId),
+                    cachesByStore.computeIfAbsent(store, this::newProductCache)), searchIndex), facetIndex), catalogVersions));
+        });
 
         log.info("=== SupplierRepositoryRouter configuré avec {} fournisseurs ===", repos.size());
         return repos;
     }
 
     /**
-     * Repository de commandes.
+     * Sélectionne le moteur de stock utilisé par les ventes (inventory.engine: database | memory).
+     */
+    @Bean
+    public InventoryPort inventoryPort(SupplierRepositoryRouter supplierRouter) {
+        log.info("=== Sélection du moteur de stock: {} ===", inventoryEngine);
+        if ("memory".equalsIgnoreCase(inventoryEngine)) {
+            return new InMemoryInventoryAdapter(supplierRouter);
+        }
+        return new DatabaseInventoryAdapter(supplierRouter);
+    }
+
+    /**
+     * Pool borné pour les lectures fédérées sur toutes les bases fournisseurs.
+     * Une file pleine fait échouer la lecture du fournisseur concerné au lieu de l'attendre.
+     * En mode threads virtuels, les lectures s'exécutent sur des threads virtuels, avec les mêmes bornes.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService supplierFanOutExecutor(@Value("${product.federation.pool-size:8}") int poolSize,
+                                                  @Value("${product.federation.queue-capacity:64}") int queueCapacity,
+                                                  Environment environment) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threads = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("supplier-fanout-").getVirtualThreadFactory()
+                : r -> {
+                    Thread t = new Thread(r, "supplier-fanout-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                };
+        return new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threads, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Nouveau cache pour une base physique, enregistré pour ses métriques et ses statistiques.
+     */
+    private ProductCache newProductCache(String store) {
+        return productCaches.register(new ProductCache(store, productCacheMaxProducts, productCacheMaxLists,
+                Duration.ofSeconds(productCacheTtlSeconds)));
+    }
+
+    /**
+     * Pattern Decorator : chronomètre les appels au stockage réel (sous le cache, les
+     * lectures servies par celui-ci ne sont pas comptées), par type et par fournisseur.
+     */
+    private ProductRepositoryPort metered(ProductRepositoryPort repository, String type, String supplierId) {
+        return portMetrics.instrument(ProductRepositoryPort.class, repository, isMongo(type) ? "mongo" : "mysql", supplierId);
+    }
+
+    private <T> T metered(Class<T> port, T adapter, String type) {
+        return portMetrics.instrument(port, adapter, type, PortMetrics.NO_SUPPLIER);
+    }
+
+    /**
+     * Pattern Decorator : ajoute le cache en lecture si product.cache.enabled=true.
+     */
+    private ProductRepositoryPort cached(ProductRepositoryPort repository, ProductCache cache) {
+        return productCacheEnabled ? new CachingProductRepositoryAdapter(repository, cache) : repository;
+    }
+
+    /**
+     * Pattern Decorator : tient l'index de recherche plein texte à jour après chaque écriture.
+     */
+    private ProductRepositoryPort indexed(ProductRepositoryPort repository, InMemoryProductSearchAdapter searchIndex) {
+        return new IndexingProductRepositoryAdapter(repository, searchIndex);
+    }
+
+    /**
+     * Pattern Decorator : tient l'index de facettes à jour après chaque écriture, stock compris.
+     */
+    private ProductRepositoryPort faceted(ProductRepositoryPort repository, InMemoryProductFacetAdapter facetIndex) {
+        return new FacetIndexingProductRepositoryAdapter(repository, facetIndex);
+    }
+
+    /**
+     * Pattern Decorator : fait avancer les versions du catalogue (ETag) après chaque écriture.
+     * Le plus externe, pour que la version change après l'invalidation du cache.
+     */
+    private ProductRepositoryPort versioned(ProductRepositoryPort repository, InMemoryCatalogVersionAdapter catalogVersions) {
+        return new VersioningProductRepositoryAdapter(repository, catalogVersions);
+    }
+
+    /**
+     * Repository de commandes (suit product.repository-type).
+     */
+    @Bean
+    public OrderRepositoryPort orderRepositoryAdapter() {
+        if (isMongo(productRepositoryType)) {
+            return metered(OrderRepositoryPort.class, new MongoOrderRepositoryAdapter(orderMongoRepository, mongoTemplate), "mongo");
+        }
+        return metered(OrderRepositoryPort.class, new MySQLOrderRepositoryAdapter(orderJpaRepository), "mysql");
+    }
+
+    /**
+     * Déduplication des commandes rejouées (order.idempotency.store: memory | database).
      */
     @Bean
-    public MySQLOrderRepositoryAdapter orderRepositoryAdapter() {
-        return new MySQLOrderRepositoryAdapter(orderJpaRepository);
+    public IdempotencyPort idempotencyPort(OrderRepositoryPort orderRepositoryAdapter) {
+        Duration ttl = Duration.ofSeconds(idempotencyTtlSeconds);
+        Duration waitTimeout = Duration.ofMillis(idempotencyWaitTimeoutMs);
+        log.info("=== Clés d'idempotence: {} (max {}, ttl {}) ===", idempotencyStore, idempotencyMaxKeys, ttl);
+        if ("database".equalsIgnoreCase(idempotencyStore)) {
+            return new JpaIdempotencyAdapter(idempotencyMaxKeys, ttl, waitTimeout, idempotencyKeyJpaRepository, orderRepositoryAdapter);
+        }
+        return new InMemoryIdempotencyAdapter(idempotencyMaxKeys, ttl, waitTimeout);
+    }
+
+    private static boolean isMongo(String repositoryType) {
+        return "mongo".equalsIgnoreCase(repositoryType);
     }
 }
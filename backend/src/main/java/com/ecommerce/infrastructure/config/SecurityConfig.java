@@ -1,13 +1,16 @@
 package com.ecommerce.infrastructure.config;
 
+import com.ecommerce.domain.model.User;
 import com.ecommerce.domain.port.output.TokenGeneratorPort;
 import com.ecommerce.domain.port.output.UserRepositoryPort;
+import com.ecommerce.infrastructure.adapter.UserRevocationCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -26,6 +29,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -53,6 +57,8 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/**", "/api-docs/**").permitAll()
                 .requestMatchers("/api/products").permitAll()
                 .requestMatchers("/api/products/{id}").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .headers(h -> h.frameOptions(fo -> fo.disable())) // H2 console
@@ -62,12 +68,16 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
      * Filtre JWT injecté dans la chaîne Spring Security.
+     *
+     * Deux modes (auth.token-mode) :
+     * - database : les rôles sont relus via UserRepositoryPort à chaque requête
+     * - claims   : les rôles viennent du token, la révocation est gérée par UserRevocationCache
      */
     @Component
     @RequiredArgsConstructor
@@ -76,25 +86,37 @@ public class SecurityConfig {
 
         private final TokenGeneratorPort tokenGenerator;
         private final UserRepositoryPort userRepository;
+        private final UserRevocationCache revocationCache;
+
+        @Value("${auth.token-mode:database}")
+        private String tokenMode;
 
         @Override
         protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                         FilterChain chain) throws ServletException, IOException {
             String token = extractToken(request);
-            if (StringUtils.hasText(token) && tokenGenerator.validateToken(token)) {
-                String username = tokenGenerator.extractUsername(token);
-                userRepository.findByUsername(username).ifPresent(user -> {
-                    Set<SimpleGrantedAuthority> authorities = user.getRoles().stream()
-                            .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
-                            .collect(Collectors.toSet());
-                    UsernamePasswordAuthenticationToken auth =
-                            new UsernamePasswordAuthenticationToken(username, null, authorities);
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                });
+            if (StringUtils.hasText(token)) {
+                // Une seule vérification de signature par requête
+                tokenGenerator.verifyAndDecode(token).ifPresent(claims ->
+                        resolveRoles(claims).ifPresent(roles -> {
+                            Set<SimpleGrantedAuthority> authorities = roles.stream()
+                                    .map(r -> new SimpleGrantedAuthority("ROLE_" + r))
+                                    .collect(Collectors.toSet());
+                            UsernamePasswordAuthenticationToken auth =
+                                    new UsernamePasswordAuthenticationToken(claims.username(), null, authorities);
+                            SecurityContextHolder.getContext().setAuthentication(auth);
+                        }));
             }
             chain.doFilter(request, response);
         }
 
+        private Optional<Set<String>> resolveRoles(TokenGeneratorPort.TokenClaims claims) {
+            if ("claims".equalsIgnoreCase(tokenMode)) {
+                return revocationCache.resolveRoles(claims);
+            }
+            return userRepository.findByUsername(claims.username()).map(User::getRoles);
+        }
+
         private String extractToken(HttpServletRequest request) {
             String header = request.getHeader("Authorization");
             if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
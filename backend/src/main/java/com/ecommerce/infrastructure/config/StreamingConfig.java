@@ -0,0 +1,63 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Réponses écrites en flux (StreamingResponseBody, listing complet du catalogue).
+ *
+ * L'écriture se fait hors du thread HTTP, sur ce pool borné : chaque écriture en cours tient
+ * une connexion à la base jusqu'au dernier produit. Sans ce réglage, Spring MVC crée un thread
+ * par réponse (les autres pools de l'application écartent celui de Spring Boot) et coupe
+ * l'écriture au bout de 30 s.
+ * En mode threads virtuels, un thread virtuel par écriture, au plus pool-size à la fois
+ * (les suivantes attendent une place, queue-capacity ne sert pas).
+ */
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+
+    @Value("${product.streaming.pool-size:4}")
+    private int poolSize;
+
+    @Value("${product.streaming.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${product.streaming.timeout-ms:600000}")
+    private long timeoutMs;
+
+    private final Environment environment;
+
+    public StreamingConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    public AsyncTaskExecutor streamingResponseExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("streaming-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("streaming-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingResponseExecutor());
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
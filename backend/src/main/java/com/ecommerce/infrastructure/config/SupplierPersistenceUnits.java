@@ -0,0 +1,86 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CONFIGURATION - Unités de persistance dédiées aux fournisseurs.
+ *
+ * Pour chaque fournisseur déclaré avec une url : un pool Hikari, une EntityManagerFactory
+ * limitée aux produits et un gestionnaire de transactions, puis un ProductJpaRepository
+ * dont les méthodes @Transactional s'exécutent sur cette base.
+ *
+ * Ces objets ne sont volontairement pas des beans Spring : la DataSource,
+ * l'EntityManagerFactory et le TransactionManager principaux restent ceux de Spring Boot.
+ */
+@Slf4j
+public class SupplierPersistenceUnits implements AutoCloseable {
+
+    private final String defaultDdlAuto;
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final List<EntityManagerFactory> entityManagerFactories = new ArrayList<>();
+
+    public SupplierPersistenceUnits(String defaultDdlAuto) {
+        this.defaultDdlAuto = defaultDdlAuto;
+    }
+
+    public ProductJpaRepository productRepository(String supplierId, SupplierProperties.Supplier supplier) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("supplier-" + supplierId);
+        dataSource.setJdbcUrl(supplier.getUrl());
+        dataSource.setUsername(supplier.getUsername());
+        dataSource.setPassword(supplier.getPassword());
+        if (supplier.getDriverClassName() != null) {
+            dataSource.setDriverClassName(supplier.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(supplier.getPoolSize());
+        dataSources.add(dataSource);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setPersistenceUnitName("supplier-" + supplierId);
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setManagedTypes(PersistenceManagedTypes.of(ProductJpaEntity.class.getName()));
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", supplier.getDdlAuto() != null ? supplier.getDdlAuto() : defaultDdlAuto,
+                // Mêmes noms de tables/colonnes que la base principale configurée par Spring Boot
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManagerFactories.add(entityManagerFactory);
+
+        TransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory =
+                new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        repositoryFactory.addRepositoryProxyPostProcessor((proxy, info) -> proxy.addAdvice(
+                new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource())));
+
+        log.info("→ Base dédiée pour le fournisseur {} : {} (pool: {})", supplierId, supplier.getUrl(), supplier.getPoolSize());
+        return repositoryFactory.getRepository(ProductJpaRepository.class);
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactories.forEach(EntityManagerFactory::close);
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
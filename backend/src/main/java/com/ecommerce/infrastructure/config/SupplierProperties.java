@@ -0,0 +1,45 @@
+package com.ecommerce.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CONFIGURATION - Fournisseurs déclarés sous product.suppliers.
+ *
+ * Un fournisseur sans url utilise la base principale ; avec une url,
+ * il dispose de sa propre DataSource, de son EntityManagerFactory et de son pool Hikari.
+ * Avec repository-type=mongo, ses produits sont stockés dans MongoDB.
+ */
+@ConfigurationProperties(prefix = "product")
+@Data
+public class SupplierProperties {
+
+    private Map<String, Supplier> suppliers = new LinkedHashMap<>();
+
+    @Data
+    public static class Supplier {
+        /** mysql | mongo ; par défaut product.repository-type. */
+        private String repositoryType;
+        /** Base MongoDB dédiée (repository-type=mongo) ; par défaut celle de spring.data.mongodb.uri. */
+        private String mongoDatabase;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        /** Taille du pool Hikari dédié (ignorée sans url). */
+        private int poolSize = 10;
+        /** Stratégie hbm2ddl de la base du fournisseur ; par défaut celle de spring.jpa.hibernate.ddl-auto. */
+        private String ddlAuto;
+        /** Bulkhead : appels simultanés autorisés vers la base du fournisseur (0 = illimité). */
+        private int maxConcurrentCalls;
+        /** Bulkhead : attente maximale d'une place avant refus (503). */
+        private long acquireTimeoutMs = 500;
+
+        public boolean hasOwnDataSource() {
+            return url != null && !url.isBlank();
+        }
+    }
+}
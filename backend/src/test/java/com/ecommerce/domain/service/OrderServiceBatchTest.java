@@ -0,0 +1,151 @@
+package com.ecommerce.domain.service;
+
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.IdempotencyPort;
+import com.ecommerce.domain.port.output.InventoryPort;
+import com.ecommerce.domain.port.output.OrderIntakePort;
+import com.ecommerce.domain.port.output.OrderMetricsPort;
+import com.ecommerce.domain.port.output.OrderRepositoryPort;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.StockHoldPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Lots de commandes asynchrones : un échec après les décréments ne doit jamais décrémenter
+ * deux fois, ni perdre le stock ou le statut d'une commande. Même règle pour une commande synchrone.
+ */
+class OrderServiceBatchTest {
+
+    private final OrderRepositoryPort orders = mock(OrderRepositoryPort.class);
+    private final OrderIntakePort intake = mock(OrderIntakePort.class);
+    private final InventoryPort inventory = mock(InventoryPort.class);
+    private final SupplierRepositoryRouter router = mock(SupplierRepositoryRouter.class);
+    private final OrderMetricsPort metrics = mock(OrderMetricsPort.class);
+    private final Map<String, List<Order.OrderStatus>> saveAttempts = new HashMap<>();
+    private OrderService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrderService(orders, mock(ProductRepositoryPort.class), router,
+                intake, inventory, mock(StockHoldPort.class), metrics, mock(IdempotencyPort.class));
+        when(inventory.tryDecreaseAll(anyString(), anyList()))
+                .thenAnswer(call -> fill(((List<?>) call.getArgument(1)).size()));
+    }
+
+    @Test
+    void orderThatCannotBeSavedGetsItsStockBackAndIsSavedCancelled() {
+        Order failing = order("a", item("f1", "p1", 2));
+        Order fine = order("b", item("f1", "p2", 1));
+        failOnSave("a", Order.OrderStatus.CONFIRMED);
+
+        List<Order> processed = service.processOrderBatch(List.of(failing, fine));
+
+        verify(inventory, times(1)).tryDecreaseAll(eq("f1"), anyList());
+        verify(inventory).increase("f1", "p1", 2);
+        verify(inventory, never()).increase("f1", "p2", 1);
+        assertThat(saveAttempts.get("a")).containsExactly(Order.OrderStatus.CONFIRMED, Order.OrderStatus.CANCELLED);
+        assertThat(processed).extracting(Order::getId, Order::getStatus).containsExactly(
+                tuple("a", Order.OrderStatus.CANCELLED),
+                tuple("b", Order.OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    void orderThatCannotBeSavedAtAllIsAbandonedWithAVisibleStatus() {
+        Order failing = order("a", item("f1", "p1", 2));
+        failOnSave("a", Order.OrderStatus.CONFIRMED, Order.OrderStatus.CANCELLED);
+
+        assertThat(service.processOrderBatch(List.of(failing))).isEmpty();
+
+        verify(inventory).increase("f1", "p1", 2);
+        verify(intake).abandon("a");
+        when(orders.findById("a")).thenReturn(Optional.empty());
+        when(intake.isAbandoned("a")).thenReturn(true);
+        assertThat(service.getOrderStatus("a")).contains(Order.OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void failingSupplierCancelsItsOrdersAndReturnsStockTakenFromOthers() {
+        Order mixed = order("a", item("f1", "p1", 1), item("f2", "p9", 1));
+        Order fine = order("b", item("f1", "p2", 1));
+        when(inventory.tryDecreaseAll(eq("f2"), anyList())).thenThrow(new IllegalStateException("base f2 indisponible"));
+        failOnSave("none");
+
+        List<Order> processed = service.processOrderBatch(List.of(mixed, fine));
+
+        verify(inventory).increase("f1", "p1", 1);
+        verify(inventory, never()).increase(eq("f2"), anyString(), anyInt());
+        assertThat(processed).extracting(Order::getStatus)
+                .containsExactly(Order.OrderStatus.CANCELLED, Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void synchronousOrderThatCannotBeSavedGivesItsStockBack() {
+        ProductRepositoryPort f1 = mock(ProductRepositoryPort.class);
+        when(router.getRepositoryForSupplier("f1")).thenReturn(f1);
+        when(f1.findAllByIds(any())).thenReturn(List.of(Product.builder().id("p1").name("p1").supplierId("f1")
+                .price(BigDecimal.TEN).stock(5).available(true).build()));
+        when(inventory.tryDecrease("f1", "p1", 2)).thenReturn(true);
+        when(orders.save(any(Order.class))).thenThrow(new IllegalStateException("base des commandes indisponible"));
+
+        assertThatThrownBy(() -> service.placeOrder("c1", List.of(item("f1", "p1", 2)), "adresse"))
+                .hasMessage("base des commandes indisponible");
+
+        verify(inventory).increase("f1", "p1", 2);
+        verify(metrics, never()).orderPlaced(any());
+    }
+
+    private void failOnSave(String orderId, Order.OrderStatus... failingStatuses) {
+        List<Order.OrderStatus> failing = List.of(failingStatuses);
+        when(orders.save(any(Order.class))).thenAnswer(call -> {
+            Order order = call.getArgument(0);
+            saveAttempts.computeIfAbsent(order.getId(), id -> new ArrayList<>()).add(order.getStatus());
+            if (order.getId().equals(orderId) && failing.contains(order.getStatus())) {
+                throw new IllegalStateException("base des commandes indisponible");
+            }
+            return order;
+        });
+    }
+
+    private static boolean[] fill(int size) {
+        boolean[] applied = new boolean[size];
+        Arrays.fill(applied, true);
+        return applied;
+    }
+
+    private static Order order(String id, OrderItem... items) {
+        return Order.builder().id(id).customerId("c1").items(List.of(items)).status(Order.OrderStatus.PENDING)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).shippingAddress("adresse").build();
+    }
+
+    private static OrderItem item(String supplierId, String productId, int quantity) {
+        return OrderItem.builder().supplierId(supplierId).productId(productId).productName(productId)
+                .quantity(quantity).unitPrice(BigDecimal.TEN).build();
+    }
+}
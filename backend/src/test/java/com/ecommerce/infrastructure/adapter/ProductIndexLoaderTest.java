@@ -0,0 +1,108 @@
+package com.ecommerce.infrastructure.adapter;
+
+import com.ecommerce.domain.model.Facet;
+import com.ecommerce.domain.model.FacetFilter;
+import com.ecommerce.domain.model.FederatedProducts;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import com.ecommerce.infrastructure.adapter.facet.InMemoryProductFacetAdapter;
+import com.ecommerce.infrastructure.adapter.search.InMemoryProductSearchAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Un fournisseur hors délai au démarrage est indexé au rechargement suivant, puis n'est plus relu.
+ * Les écritures faites entre la lecture et l'indexation (suppression, stock) ne sont pas écrasées par la copie lue.
+ */
+class ProductIndexLoaderTest {
+
+    private final SupplierRepositoryRouter router = mock(SupplierRepositoryRouter.class);
+    private final ProductRepositoryPort f2 = mock(ProductRepositoryPort.class);
+    private final InMemoryProductSearchAdapter searchIndex = new InMemoryProductSearchAdapter(new SimpleMeterRegistry());
+    private final InMemoryProductFacetAdapter facetIndex = new InMemoryProductFacetAdapter(new SimpleMeterRegistry());
+    private final ProductIndexLoader loader = new ProductIndexLoader(router, searchIndex, facetIndex);
+
+    @Test
+    void timedOutSupplierIsIndexedOnceItAnswers() {
+        startWithF2TimedOut();
+        when(f2.findBySupplierId("f2"))
+                .thenThrow(new IllegalStateException("base f2 indisponible"))
+                .thenReturn(List.of(product("p2", "f2", 5)));
+
+        loader.loadAll();
+        assertThat(searchIndex.size()).isEqualTo(1);
+        assertThat(facetIndex.size()).isEqualTo(1);
+
+        loader.reloadMissing();
+        assertThat(searchIndex.size()).isEqualTo(1);
+
+        loader.reloadMissing();
+        loader.reloadMissing();
+        assertThat(searchIndex.size()).isEqualTo(2);
+        assertThat(facetIndex.size()).isEqualTo(2);
+        verify(f2, times(2)).findBySupplierId("f2");
+    }
+
+    @Test
+    void productDeletedAfterTheReadIsNotIndexed() {
+        startWithF2TimedOut();
+        when(f2.findBySupplierId("f2")).thenAnswer(invocation -> {
+            List<Product> read = List.of(product("p2", "f2", 5));
+            // Suppression par les décorateurs pendant le rechargement
+            searchIndex.remove("p2");
+            facetIndex.remove("p2");
+            return read;
+        });
+        when(f2.findAllByIds(List.of("p2"))).thenReturn(List.of());
+
+        loader.loadAll();
+        loader.reloadMissing();
+        loader.reloadMissing();
+
+        assertThat(searchIndex.size()).isEqualTo(1);
+        assertThat(facetIndex.size()).isEqualTo(1);
+        verify(f2, times(1)).findBySupplierId("f2");
+    }
+
+    @Test
+    void stockSoldOutAfterTheReadIsNotOverwrittenByTheReadCopy() {
+        startWithF2TimedOut();
+        when(f2.findBySupplierId("f2")).thenAnswer(invocation -> {
+            List<Product> read = List.of(product("p2", "f2", 5));
+            // Dernières unités vendues pendant le rechargement, produit pas encore indexé
+            facetIndex.stockDecreased("p2", 5);
+            return read;
+        });
+        when(f2.findAllByIds(List.of("p2"))).thenReturn(List.of(product("p2", "f2", 0)));
+
+        loader.loadAll();
+        loader.reloadMissing();
+
+        assertThat(facetIndex.size()).isEqualTo(2);
+        assertThat(facetIndex.filter(new FacetFilter.Term(Facet.AVAILABLE, "false"), -1, 10).hits())
+                .extracting(hit -> hit.productId())
+                .containsExactly("p2");
+    }
+
+    private void startWithF2TimedOut() {
+        when(router.findAllAcrossSuppliers())
+                .thenReturn(new FederatedProducts(List.of(product("p1", "f1", 5)), Set.of("f2"), Set.of()));
+        when(router.getRepositoryForSupplier("f2")).thenReturn(f2);
+    }
+
+    private static Product product(String id, String supplierId, int stock) {
+        return Product.builder().id(id).name("Produit " + id).supplierId(supplierId)
+                .price(new BigDecimal("1000")).stock(stock).available(stock > 0).build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecommerce.infrastructure.adapter;
+
+import com.ecommerce.domain.model.User;
+import com.ecommerce.domain.port.output.TokenGeneratorPort.TokenClaims;
+import com.ecommerce.domain.port.output.UserRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserRevocationCacheTest {
+
+    private final UserRepositoryPort users = mock(UserRepositoryPort.class);
+    private final UserRevocationCache cache = new UserRevocationCache(users, 3);
+
+    @Test
+    void revokedUserStaysRevokedWhenManyOtherAccountsLogIn() {
+        when(users.findByUsername(anyString())).thenAnswer(call -> Optional.of(user(call.getArgument(0), true)));
+        when(users.findByUsername("mallory")).thenReturn(Optional.of(user("mallory", false)));
+        cache.resolveRoles(claims("mallory"));
+        cache.refresh();
+
+        for (int i = 0; i < 100; i++) {
+            cache.resolveRoles(claims("bot" + i));
+        }
+
+        assertThat(cache.resolveRoles(claims("mallory"))).isEmpty();
+    }
+
+    @Test
+    void leastRecentlyUsedActiveUserIsEvictedFirst() {
+        when(users.findByUsername(anyString())).thenAnswer(call -> Optional.of(
+                User.builder().username(call.getArgument(0)).roles(Set.of("ADMIN")).active(true).build()));
+        cache.resolveRoles(claims("alice"));
+        cache.resolveRoles(claims("bob"));
+        cache.resolveRoles(claims("carol"));
+        cache.refresh();
+
+        cache.resolveRoles(claims("alice"));
+        cache.resolveRoles(claims("dave"));
+
+        // Rôles relus en base (ADMIN) pour alice, encore suivie ; bob évincé repart du token (CLIENT)
+        assertThat(cache.resolveRoles(claims("alice"))).contains(Set.of("ADMIN"));
+        assertThat(cache.resolveRoles(claims("bob"))).contains(Set.of("CLIENT"));
+    }
+
+    private static TokenClaims claims(String username) {
+        return new TokenClaims(username, username + "-id", Set.of("CLIENT"));
+    }
+
+    private static User user(String username, boolean active) {
+        return User.builder().username(username).roles(Set.of("CLIENT")).active(active).build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.ecommerce.infrastructure.adapter.inventory;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.domain.port.output.ProductRepositoryPort.StockDecrement;
+import com.ecommerce.domain.port.output.SupplierRepositoryRouter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Ventes concurrentes sur le stock en mémoire, pendant que les reports en base échouent
+ * ou sont refusés au hasard (rechargement du compteur) : jamais de survente, aucune vente perdue.
+ */
+class InMemoryInventoryAdapterStressTest {
+
+    private static final String SUPPLIER = "f1";
+    private static final int THREADS = 8;
+    private static final int REFUSED_UNITS = 1_000;
+
+    /** Stock « en base » par produit. */
+    private final Map<String, AtomicInteger> db = new ConcurrentHashMap<>();
+    /** Unités vendues en mémoire dont le report a été refusé par la base, par produit. */
+    private final Map<String, AtomicInteger> refused = new ConcurrentHashMap<>();
+    private final AtomicBoolean failures = new AtomicBoolean(true);
+    private final InMemoryInventoryAdapter adapter = new InMemoryInventoryAdapter(router());
+
+    @Test
+    void concurrentSalesNeverOversellAndAreAllFlushed() throws Exception {
+        db.put("scarce", new AtomicInteger(500));
+        db.put("plenty", new AtomicInteger(10_000_000));
+        db.keySet().forEach(id -> refused.put(id, new AtomicInteger()));
+        AtomicInteger scarceSold = new AtomicInteger();
+        AtomicInteger plentySold = new AtomicInteger();
+        AtomicInteger plentyReturned = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean selling = new AtomicBoolean(true);
+        Future<?> flusher = pool.submit(() -> {
+            await(start);
+            while (selling.get()) {
+                adapter.flush();
+            }
+        });
+        List<Future<?>> sellers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            sellers.add(pool.submit(() -> {
+                await(start);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                // Les ventes continuent tant que la base n'a pas refusé assez de reports (rechargements)
+                for (int i = 0; i < 2_000 || refused.get("plenty").get() < REFUSED_UNITS; i++) {
+                    if (i < 200 && adapter.tryDecrease(SUPPLIER, "scarce", 1)) {
+                        scarceSold.incrementAndGet();
+                    }
+                    int quantity = 1 + random.nextInt(3);
+                    if (adapter.tryDecrease(SUPPLIER, "plenty", quantity)) {
+                        plentySold.addAndGet(quantity);
+                        if (random.nextInt(10) == 0) {
+                            adapter.increase(SUPPLIER, "plenty", quantity);
+                            plentyReturned.addAndGet(quantity);
+                        }
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> seller : sellers) {
+            seller.get(30, TimeUnit.SECONDS);
+        }
+        selling.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        failures.set(false);
+        adapter.flush();
+
+        assertThat(scarceSold.get()).isEqualTo(500);
+        assertThat(db.get("scarce").get()).isZero();
+        assertThat(refused.get("scarce").get()).isZero();
+        assertThat(refused.get("plenty").get()).isPositive();
+        assertThat(db.get("plenty").get())
+                .isEqualTo(10_000_000 - plentySold.get() + plentyReturned.get() + refused.get("plenty").get());
+    }
+
+    private SupplierRepositoryRouter router() {
+        ProductRepositoryPort repository = mock(ProductRepositoryPort.class, withSettings().stubOnly());
+        when(repository.findById(anyString())).thenAnswer(call -> {
+            String id = call.getArgument(0);
+            return Optional.of(Product.builder().id(id).supplierId(SUPPLIER).available(true)
+                    .stock(db.get(id).get()).build());
+        });
+        when(repository.decreaseStockBatch(anyList())).thenAnswer(call -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (failures.get() && random.nextInt(5) == 0) {
+                throw new IllegalStateException("base indisponible");
+            }
+            List<StockDecrement> decrements = call.getArgument(0);
+            boolean[] applied = new boolean[decrements.size()];
+            for (int i = 0; i < applied.length; i++) {
+                StockDecrement d = decrements.get(i);
+                // Stock modifié par ailleurs : le report de "plenty" est parfois refusé
+                if (failures.get() && d.productId().equals("plenty") && random.nextInt(4) == 0) {
+                    refused.get(d.productId()).addAndGet(d.quantity());
+                } else {
+                    applied[i] = decrease(d.productId(), d.quantity());
+                }
+            }
+            return applied;
+        });
+        when(repository.decreaseStockIfAvailable(anyString(), anyInt()))
+                .thenAnswer(call -> decrease(call.getArgument(0), call.getArgument(1)));
+        doAnswer(call -> db.get((String) call.getArgument(0)).addAndGet(call.getArgument(1)))
+                .when(repository).increaseStock(anyString(), anyInt());
+        SupplierRepositoryRouter router = mock(SupplierRepositoryRouter.class, withSettings().stubOnly());
+        when(router.getRepositoryForSupplier(SUPPLIER)).thenReturn(repository);
+        return router;
+    }
+
+    private boolean decrease(String productId, int quantity) {
+        AtomicInteger stock = db.get(productId);
+        int current;
+        do {
+            current = stock.get();
+            if (current < quantity) {
+                refused.get(productId).addAndGet(quantity);
+                return false;
+            }
+        } while (!stock.compareAndSet(current, current - quantity));
+        return true;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.infrastructure.adapter.persistence;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.model.ProductSearchCriteria;
+import com.ecommerce.domain.port.output.ProductRepositoryPort;
+import com.ecommerce.infrastructure.config.SupplierProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Lectures du catalogue sur la base par défaut et sur la base dédiée d'un fournisseur (f2),
+ * f1 partageant la base par défaut.
+ */
+class SupplierRepositoryRouterImplTest {
+
+    private final ProductRepositoryPort defaultRepository = mock(ProductRepositoryPort.class);
+    private final ProductRepositoryPort f1 = mock(ProductRepositoryPort.class);
+    private final ProductRepositoryPort f2 = mock(ProductRepositoryPort.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final SupplierRepositoryRouterImpl router = new SupplierRepositoryRouterImpl(
+            Map.of("f1", f1, "f2", f2), defaultRepository, executor, 2000, "mysql", properties());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void pagesOfEachStoreAreMergedByIdAndTrimmedToLimit() {
+        ProductSearchCriteria criteria = ProductSearchCriteria.builder().cursor("a").limit(2).build();
+        when(defaultRepository.findPage(criteria)).thenReturn(new CursorPage<>(List.of(product("b"), product("d")), "d"));
+        when(f2.findPage(criteria)).thenReturn(new CursorPage<>(List.of(product("c")), null));
+
+        CursorPage<Product> page = router.findProductPage(criteria);
+
+        assertThat(page.items()).extracting(Product::getId).containsExactly("b", "c");
+        assertThat(page.nextCursor()).isEqualTo("c");
+    }
+
+    @Test
+    void lastPageHasNoCursorOnceEveryStoreIsExhausted() {
+        ProductSearchCriteria criteria = ProductSearchCriteria.builder().cursor("c").limit(2).build();
+        when(defaultRepository.findPage(criteria)).thenReturn(new CursorPage<>(List.of(product("d")), null));
+        when(f2.findPage(criteria)).thenReturn(new CursorPage<>(List.of(), null));
+
+        CursorPage<Product> page = router.findProductPage(criteria);
+
+        assertThat(page.items()).extracting(Product::getId).containsExactly("d");
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void categoryListingCoversDedicatedStores() {
+        when(defaultRepository.findByCategory("livres")).thenReturn(List.of(product("a")));
+        when(f2.findByCategory("livres")).thenReturn(List.of(product("b")));
+
+        assertThat(router.findProductsByCategory("livres")).extracting(Product::getId).containsExactly("a", "b");
+    }
+
+    private static SupplierProperties properties() {
+        SupplierProperties.Supplier dedicated = new SupplierProperties.Supplier();
+        dedicated.setUrl("jdbc:h2:mem:f2");
+        SupplierProperties properties = new SupplierProperties();
+        properties.getSuppliers().put("f1", new SupplierProperties.Supplier());
+        properties.getSuppliers().put("f2", dedicated);
+        return properties;
+    }
+
+    private static Product product(String id) {
+        return Product.builder().id(id).name("Produit " + id).build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.infrastructure.adapter.persistence.cache;
+
+import com.ecommerce.domain.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Une lecture en base n'est écartée que si sa propre clé est invalidée pendant la lecture :
+ * les ventes d'autres produits ne vident pas le cache.
+ */
+class ProductCacheTest {
+
+    private final ProductCache cache = new ProductCache("sql", 100, 100, Duration.ofMinutes(5));
+
+    @Test
+    void writeOnAnotherProductDuringLoadKeepsTheValue() {
+        cache.getById("p1", id -> {
+            cache.invalidate("p2");
+            return Optional.of(product(id));
+        });
+
+        assertThat(cache.byId().getIfPresent("p1")).isPresent();
+    }
+
+    @Test
+    void writeOnTheSameProductDuringLoadDiscardsTheValue() {
+        cache.getById("p1", id -> {
+            cache.invalidate("p1");
+            return Optional.of(product(id));
+        });
+
+        assertThat(cache.byId().getIfPresent("p1")).isNull();
+    }
+
+    @Test
+    void groupedLoadKeepsOnlyProductsNotWrittenMeanwhile() {
+        List<Product> loaded = cache.getAllById(List.of("p1", "p2", "p3"), ids -> {
+            cache.invalidate("p2");
+            return ids.stream().map(ProductCacheTest::product).toList();
+        });
+
+        assertThat(loaded).extracting(Product::getId).containsExactlyInAnyOrder("p1", "p2", "p3");
+        assertThat(cache.byId().getIfPresent("p1")).isPresent();
+        assertThat(cache.byId().getIfPresent("p2")).isNull();
+        assertThat(cache.byId().getIfPresent("p3")).isPresent();
+    }
+
+    private static Product product(String id) {
+        return Product.builder().id(id).name("Produit " + id).supplierId("f1").category("essai").build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.infrastructure.adapter.persistence.json;
+
+import com.ecommerce.domain.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonUserRepositoryAdapterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void usersSurviveCompactionAndJournalReplay() throws Exception {
+        String file = dir.resolve("users.json").toString();
+        try (JsonUserRepositoryAdapter users = new JsonUserRepositoryAdapter(file, 10, 3)) {
+            for (int i = 0; i < 5; i++) {
+                users.create(user("user" + i));
+            }
+        }
+        // Journal seul, sans compaction : simule un arrêt brutal après des écritures fsyncées
+        JsonUserRepositoryAdapter crashed = new JsonUserRepositoryAdapter(file, 10, 1000);
+        crashed.create(user("late"));
+        Thread.sleep(50);
+
+        try (JsonUserRepositoryAdapter reopened = new JsonUserRepositoryAdapter(file, 10, 1000)) {
+            assertThat(reopened.existsByUsername("user0")).isTrue();
+            assertThat(reopened.existsByUsername("user4")).isTrue();
+            assertThat(reopened.existsByUsername("late")).isTrue();
+        }
+    }
+
+    @Test
+    void tornJournalLineIsDroppedAndLaterWritesAreKept() throws Exception {
+        String file = dir.resolve("users.json").toString();
+        JsonUserRepositoryAdapter crashed = new JsonUserRepositoryAdapter(file, 10, 1000);
+        crashed.create(user("first"));
+        Thread.sleep(50);
+        Files.writeString(Path.of(file + ".journal"), "{\"id\":\"torn", StandardOpenOption.APPEND);
+
+        try (JsonUserRepositoryAdapter reopened = new JsonUserRepositoryAdapter(file, 10, 1000)) {
+            reopened.create(user("second"));
+        }
+        try (JsonUserRepositoryAdapter reopened = new JsonUserRepositoryAdapter(file, 10, 1000)) {
+            assertThat(reopened.existsByUsername("first")).isTrue();
+            assertThat(reopened.existsByUsername("second")).isTrue();
+        }
+    }
+
+    private static User user(String username) {
+        return User.builder().username(username).email(username + "@example.com").password("x")
+                .roles(Set.of("CLIENT")).active(true).build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import com.ecommerce.domain.model.CursorPage;
+import com.ecommerce.domain.model.Order;
+import com.ecommerce.domain.model.OrderItem;
+import com.ecommerce.domain.model.OrderSummary;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Historique paginé des commandes MongoDB sur un serveur en mémoire (mongo-java-server).
+ */
+class MongoOrderRepositoryAdapterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private static MongoServer server;
+    private static MongoClient client;
+
+    private MongoOrderRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void startServer() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        client.close();
+        server.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        MongoTemplate mongoTemplate = new MongoTemplate(client, "orders-test");
+        mongoTemplate.dropCollection(OrderMongoDocument.class);
+        OrderMongoRepository repository = new MongoRepositoryFactory(mongoTemplate).getRepository(OrderMongoRepository.class);
+        adapter = new MongoOrderRepositoryAdapter(repository, mongoTemplate);
+    }
+
+    @Test
+    void pagesFollowCreationOrderWithoutGapsOrDuplicates() {
+        save("o1", "c1", T0);
+        save("o2", "c1", T0.plusMinutes(1));
+        save("o3", "c1", T0.plusMinutes(1));
+        save("o4", "c1", T0.plusMinutes(2));
+        save("o5", "c1", T0.plusMinutes(3));
+        save("other", "c2", T0.plusMinutes(4));
+
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<OrderSummary> page = adapter.findSummariesByCustomerId("c1", cursor, 2);
+            page.items().forEach(summary -> ids.add(summary.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Même date de création : l'identifiant départage, en ordre décroissant
+        assertThat(ids).containsExactly("o5", "o4", "o3", "o2", "o1");
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void summaryCountsLinesAndTotalsThemServerSide() {
+        save("full", "c1", T0.plusMinutes(1),
+                item("p1", 2, "10.50"), item("p2", 1, "3.00"));
+        save("empty", "c1", T0);
+
+        List<OrderSummary> summaries = adapter.findSummariesByCustomerId("c1", null, 10).items();
+
+        assertThat(summaries).extracting(OrderSummary::id).containsExactly("full", "empty");
+        assertThat(summaries.get(0).itemCount()).isEqualTo(2);
+        assertThat(summaries.get(0).total()).isEqualByComparingTo("24.00");
+        assertThat(summaries.get(0).createdAt()).isEqualTo(T0.plusMinutes(1));
+        assertThat(summaries.get(1).itemCount()).isZero();
+        assertThat(summaries.get(1).total()).isEqualByComparingTo("0");
+    }
+
+    private void save(String id, String customerId, LocalDateTime createdAt, OrderItem... items) {
+        adapter.save(Order.builder()
+                .id(id).customerId(customerId).items(List.of(items)).status(Order.OrderStatus.CONFIRMED)
+                .createdAt(createdAt).updatedAt(createdAt).shippingAddress("adresse")
+                .build());
+    }
+
+    private static OrderItem item(String productId, int quantity, String unitPrice) {
+        return OrderItem.builder().productId(productId).productName(productId).supplierId("f1")
+                .quantity(quantity).unitPrice(new BigDecimal(unitPrice)).build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.ecommerce.infrastructure.adapter.persistence.mongo;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.domain.port.output.ProductRepositoryPort.StockDecrement;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mouvements de stock MongoDB sur un serveur en mémoire (mongo-java-server).
+ */
+class MongoProductRepositoryAdapterTest {
+
+    private static MongoServer server;
+    private static MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+    private MongoProductRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void startServer() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        client.close();
+        server.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = new MongoTemplate(client, "products-test");
+        mongoTemplate.dropCollection(ProductMongoDocument.class);
+        adapter = new MongoProductRepositoryAdapter(mongoTemplate, "f1");
+    }
+
+    @Test
+    void concurrentDecrementsNeverOversellAndSoldOutProductBecomesUnavailable() throws Exception {
+        save("p1", 20, true);
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10; i++) {
+                        if (adapter.decreaseStockIfAvailable("p1", 1)) {
+                            sold.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Product product = adapter.findById("p1").orElseThrow();
+        assertThat(sold.get()).isEqualTo(20);
+        assertThat(product.getStock()).isZero();
+        assertThat(product.isAvailable()).isFalse();
+    }
+
+    @Test
+    void decrementIsRefusedOnUnavailableProductOrMissingStock() {
+        save("off", 5, false);
+        save("low", 2, true);
+
+        assertThat(adapter.decreaseStockIfAvailable("off", 1)).isFalse();
+        assertThat(adapter.decreaseStockIfAvailable("low", 3)).isFalse();
+        assertThat(adapter.findById("off").orElseThrow().getStock()).isEqualTo(5);
+        assertThat(adapter.findById("low").orElseThrow().getStock()).isEqualTo(2);
+    }
+
+    @Test
+    void batchReportsEachLineAndCleansItsTokens() {
+        save("a", 5, true);
+        save("b", 1, true);
+        save("c", 2, true);
+
+        boolean[] applied = adapter.decreaseStockBatch(List.of(
+                new StockDecrement("a", 2), new StockDecrement("b", 3), new StockDecrement("c", 2)));
+
+        assertThat(applied).containsExactly(true, false, true);
+        assertThat(adapter.findById("a").orElseThrow().getStock()).isEqualTo(3);
+        assertThat(adapter.findById("b").orElseThrow().getStock()).isEqualTo(1);
+        Product soldOut = adapter.findById("c").orElseThrow();
+        assertThat(soldOut.getStock()).isZero();
+        assertThat(soldOut.isAvailable()).isFalse();
+        for (String id : List.of("a", "b", "c")) {
+            assertThat(mongoTemplate.findById(id, ProductMongoDocument.class).getPendingOps()).isNullOrEmpty();
+        }
+    }
+
+    @Test
+    void increaseStockMakesOnlySoldOutProductsAvailableAgain() {
+        save("sold", 1, true);
+        save("off", 5, false);
+        assertThat(adapter.decreaseStockIfAvailable("sold", 1)).isTrue();
+
+        adapter.increaseStock("sold", 3);
+        adapter.increaseStock("off", 2);
+
+        Product sold = adapter.findById("sold").orElseThrow();
+        assertThat(sold.getStock()).isEqualTo(3);
+        assertThat(sold.isAvailable()).isTrue();
+        Product off = adapter.findById("off").orElseThrow();
+        assertThat(off.getStock()).isEqualTo(7);
+        assertThat(off.isAvailable()).isFalse();
+    }
+
+    private void save(String id, int stock, boolean available) {
+        adapter.save(Product.builder()
+                .id(id).name("Produit " + id).description("Essai de stock").price(new BigDecimal("10.00"))
+                .stock(stock).supplierId("f1").storeId("m1").category("essai").available(available)
+                .build());
+    }
+}
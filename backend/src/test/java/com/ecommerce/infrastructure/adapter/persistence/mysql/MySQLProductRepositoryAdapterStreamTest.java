@@ -0,0 +1,47 @@
+package com.ecommerce.infrastructure.adapter.persistence.mysql;
+
+import com.ecommerce.domain.model.Product;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Le parcours en flux (projection ProductRow) rend les mêmes produits que la lecture par entité.
+ */
+@DataJpaTest(showSql = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MySQLProductRepositoryAdapterStreamTest {
+
+    @Autowired
+    private ProductJpaRepository jpaRepository;
+
+    @Test
+    void streamAllMapsEveryColumnLikeFindById() {
+        jpaRepository.deleteAll();
+        jpaRepository.save(ProductJpaEntity.builder()
+                .id("p1").name("Casque").description("Sans fil").price(new BigDecimal("15000.00"))
+                .stock(0).supplierId("f1").storeId("m1").category("Audio").available(false)
+                .build());
+        jpaRepository.save(ProductJpaEntity.builder()
+                .id("p2").name("Enceinte").description(null).price(new BigDecimal("30000.00"))
+                .stock(4).supplierId("f1").storeId("m2").category("Audio").available(true)
+                .build());
+        MySQLProductRepositoryAdapter adapter = new MySQLProductRepositoryAdapter(jpaRepository, "f1");
+
+        List<Product> streamed = new ArrayList<>();
+        adapter.streamAll(streamed::add);
+
+        assertThat(streamed).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrder(adapter.findById("p1").orElseThrow(), adapter.findById("p2").orElseThrow());
+    }
+}
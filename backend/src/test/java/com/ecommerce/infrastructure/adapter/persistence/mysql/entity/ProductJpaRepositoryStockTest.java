@@ -0,0 +1,99 @@
+package com.ecommerce.infrastructure.adapter.persistence.mysql.entity;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Décréments et réincréments de stock sur H2 : chaque appel valide sa propre transaction,
+ * comme en production (pas de transaction de test englobante).
+ */
+@DataJpaTest(showSql = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductJpaRepositoryStockTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+
+    @Autowired
+    private ProductJpaRepository repository;
+
+    @Test
+    void concurrentDecrementsNeverOversell() throws Exception {
+        int stock = 100;
+        String productId = save(stock, true);
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        sold.addAndGet(repository.decreaseStockIfAvailable(productId, 1));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ProductJpaEntity product = repository.findById(productId).orElseThrow();
+        assertThat(sold.get()).isEqualTo(stock);
+        assertThat(product.getStock()).isZero();
+        assertThat(product.isAvailable()).isFalse();
+    }
+
+    @Test
+    void increaseStockMakesSoldOutProductAvailableAgain() {
+        String productId = save(1, true);
+        assertThat(repository.decreaseStockIfAvailable(productId, 1)).isEqualTo(1);
+
+        repository.increaseStock(productId, 3);
+
+        ProductJpaEntity product = repository.findById(productId).orElseThrow();
+        assertThat(product.getStock()).isEqualTo(3);
+        assertThat(product.isAvailable()).isTrue();
+    }
+
+    @Test
+    void increaseStockKeepsProductDeactivatedByAdmin() {
+        String productId = save(5, false);
+
+        repository.increaseStock(productId, 2);
+
+        ProductJpaEntity product = repository.findById(productId).orElseThrow();
+        assertThat(product.getStock()).isEqualTo(7);
+        assertThat(product.isAvailable()).isFalse();
+    }
+
+    private String save(int stock, boolean available) {
+        String id = UUID.randomUUID().toString();
+        repository.save(ProductJpaEntity.builder()
+                .id(id).name("Produit " + id).description("Essai de stock").price(new BigDecimal("10.00"))
+                .stock(stock).supplierId("f1").storeId("m1").category("essai").available(available)
+                .build());
+        return id;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.infrastructure.adapter.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestsTest {
+
+    private final ConditionalRequests conditionalRequests = new ConditionalRequests(new SimpleMeterRegistry());
+    private final StreamingJson streamingJson = new StreamingJson(new ObjectMapper());
+
+    @Test
+    void jsonAndNdjsonOfTheSameVersionDoNotShareAnEtag() {
+        String jsonTag = etag(get(null, null));
+        String ndjsonTag = etag(get("application/x-ndjson", null));
+
+        assertThat(jsonTag).isNotEqualTo(ndjsonTag);
+        assertThat(ndjsonTag).endsWith("-ndjson\"");
+    }
+
+    @Test
+    void etagOnlyRevalidatesTheRepresentationItWasIssuedFor() {
+        String jsonTag = etag(get(null, null));
+        String ndjsonTag = etag(get("application/x-ndjson", null));
+
+        assertThat(get(null, jsonTag).getStatus()).isEqualTo(304);
+        assertThat(get("application/x-ndjson", ndjsonTag).getStatus()).isEqualTo(304);
+        assertThat(get("application/x-ndjson", jsonTag).getStatus()).isEqualTo(200);
+        assertThat(get(null, ndjsonTag).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse get(String accept, String ifNoneMatch) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/products");
+        if (accept != null) {
+            servletRequest.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        if (ifNoneMatch != null) {
+            servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest request = new ServletWebRequest(servletRequest, response);
+        ResponseEntity<String> entity = conditionalRequests.ifModified(request, "all", 7,
+                streamingJson.representation(request), () -> ResponseEntity.ok("[]"));
+        if (entity != null) {
+            response.setStatus(entity.getStatusCode().value());
+        }
+        return response;
+    }
+
+    private static String etag(MockHttpServletResponse response) {
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaEntity;
+import com.ecommerce.infrastructure.adapter.persistence.mysql.entity.ProductJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Deux fournisseurs sur deux bases H2 dédiées : chacun a ses données et son pool,
+ * un pool épuisé chez f1 ne bloque pas f2.
+ */
+class SupplierPersistenceUnitsTest {
+
+    private final SupplierPersistenceUnits units = new SupplierPersistenceUnits("create-drop");
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+        units.close();
+    }
+
+    @Test
+    void exhaustedPoolOfOneSupplierDoesNotBlockTheOther() throws Exception {
+        ProductJpaRepository f1 = units.productRepository("f1", supplier("f1"));
+        ProductJpaRepository f2 = units.productRepository("f2", supplier("f2"));
+        f1.save(product("p1", "f1"));
+        f2.save(product("p2", "f2"));
+        assertThat(f1.findAll()).extracting(ProductJpaEntity::getId).containsExactly("p1");
+        assertThat(f2.findAll()).extracting(ProductJpaEntity::getId).containsExactly("p2");
+
+        // La seule connexion de f1 reste prise tant que le parcours en flux n'est pas relâché
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = pool.submit(() -> f1.forEachProduct(p -> {
+            holding.countDown();
+            await(release);
+        }));
+        assertThat(holding.await(10, TimeUnit.SECONDS)).isTrue();
+
+        Future<Long> f1Count = pool.submit(() -> f1.count());
+        assertThat(f2.count()).isEqualTo(1);
+        assertThatThrownBy(() -> f1Count.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        assertThat(f1Count.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    private static SupplierProperties.Supplier supplier(String supplierId) {
+        SupplierProperties.Supplier supplier = new SupplierProperties.Supplier();
+        supplier.setUrl("jdbc:h2:mem:supplier-" + supplierId + ";DB_CLOSE_DELAY=-1");
+        supplier.setUsername("sa");
+        supplier.setPassword("");
+        supplier.setPoolSize(1);
+        return supplier;
+    }
+
+    private static ProductJpaEntity product(String id, String supplierId) {
+        return ProductJpaEntity.builder()
+                .id(id).name("Produit " + id).description("Essai de pool").price(new BigDecimal("10.00"))
+                .stock(1).supplierId(supplierId).storeId("m1").category("essai").available(true)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}